@@ -0,0 +1,82 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.mensageria.CodificadorBinario;
+import com.hackathon.simulacao.mensageria.CodificadorEventos;
+import com.hackathon.simulacao.mensageria.CodificadorJson;
+import com.hackathon.simulacao.mensageria.CodificadorResumo;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodificadorEventosBenchmark {
+    @Param({"1", "24", "96", "420", "600"})
+    private int prazo;
+
+    @Param({"JSON", "BINARIO", "RESUMO"})
+    private String formato;
+
+    private CodificadorEventos codificador;
+    private SimulacaoRequest request;
+    private SimulacaoResponse response;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanho {
+        public long bytesPorEvento;
+
+        @Setup(Level.Iteration)
+        public void zera() {
+            bytesPorEvento = 0;
+        }
+    }
+
+    @Setup
+    public void prepara() {
+        codificador = switch (formato) {
+            case "BINARIO" -> new CodificadorBinario();
+            case "RESUMO" -> new CodificadorResumo();
+            default -> new CodificadorJson(new ObjectMapper());
+        };
+
+        var motor = new MotorAmortizacaoBigDecimal();
+        request = new SimulacaoRequest(new BigDecimal("2000000.00"), prazo);
+        var produto = ProdutosExemplo.produtoPara(request.getValorDesejado());
+        response = SimulacaoResponse.builder()
+                .codigoProduto(produto.getCodigo())
+                .descricaoProduto(produto.getNome())
+                .taxaJuros(produto.getTaxaJuros())
+                .resultadoSimulacao(List.of(motor.calculaSAC(produto, request), motor.calculaPRICE(produto, request)))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] codifica(Tamanho tamanho) {
+        var evento = codificador.codifica(request, response);
+        tamanho.bytesPorEvento = evento.length;
+        return evento;
+    }
+}
@@ -0,0 +1,75 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import com.hackathon.simulacao.util.CompressaoUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressaoRespostaBenchmark {
+    @Param({"24", "96", "420"})
+    private int prazo;
+
+    @Param({"1", "6", "9"})
+    private int nivel;
+
+    private byte[] resposta;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanho {
+        public long bytesOriginais;
+        public long bytesComprimidos;
+
+        @Setup(Level.Iteration)
+        public void zera() {
+            bytesOriginais = 0;
+            bytesComprimidos = 0;
+        }
+    }
+
+    @Setup
+    public void prepara() throws JsonProcessingException {
+        var motor = new MotorAmortizacaoBigDecimal();
+        var request = new SimulacaoRequest(new BigDecimal("2000000.00"), prazo);
+        var produto = ProdutosExemplo.produtoPara(request.getValorDesejado());
+        resposta = new ObjectMapper().writeValueAsBytes(SimulacaoResponse.builder()
+                .codigoProduto(produto.getCodigo())
+                .descricaoProduto(produto.getNome())
+                .taxaJuros(produto.getTaxaJuros())
+                .resultadoSimulacao(List.of(motor.calculaSAC(produto, request), motor.calculaPRICE(produto, request)))
+                .build());
+    }
+
+    @Benchmark
+    public byte[] gzip(Tamanho tamanho) {
+        var comprimida = CompressaoUtil.gzip(resposta, nivel);
+        tamanho.bytesOriginais = resposta.length;
+        tamanho.bytesComprimidos = comprimida.length;
+        return comprimida;
+    }
+}
@@ -0,0 +1,93 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.hackathon.simulacao.model.FatoresPrice;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoPontoFixo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MotorAmortizacaoBenchmark {
+    @Param({"1", "12", "60", "120", "360", "420", "600"})
+    private int prazo;
+
+    @Param({"1000.00", "100000.00", "10000000.00"})
+    private String valor;
+
+    private final MotorAmortizacaoBigDecimal bigDecimal = new MotorAmortizacaoBigDecimal();
+    private final MotorAmortizacaoPontoFixo pontoFixo = new MotorAmortizacaoPontoFixo();
+
+    private Produto produto;
+    private Produto produtoComFatores;
+    private SimulacaoRequest request;
+
+    @Setup
+    public void prepara() {
+        var valorDesejado = new BigDecimal(valor);
+        produto = ProdutosExemplo.produtoPara(valorDesejado);
+        produtoComFatores = new Produto();
+        produtoComFatores.setTaxaJuros(produto.getTaxaJuros());
+        produtoComFatores.setMinMeses(1);
+        produtoComFatores.setFatoresPrice(FatoresPrice.de(produtoComFatores, 600));
+        request = new SimulacaoRequest(valorDesejado, prazo);
+    }
+
+    @Benchmark
+    public Object geraPrestacoesSAC() {
+        return bigDecimal.geraPrestacoesSAC(request, produto);
+    }
+
+    @Benchmark
+    public Object geraPrestacoesPRICE() {
+        return bigDecimal.geraPrestacoesPRICE(request, produto);
+    }
+
+    @Benchmark
+    public Object calculaValorPrestacaoPRICE() {
+        return MotorAmortizacaoBigDecimal.calculaValorPrestacaoPRICE(request, produto.getTaxaJuros());
+    }
+
+    @Benchmark
+    public Object calculaValorPrestacaoPRICEComFatores() {
+        return MotorAmortizacaoBigDecimal.calculaValorPrestacaoPRICE(request, produtoComFatores);
+    }
+
+    @Benchmark
+    public Object cronogramaSACPontoFixo() {
+        return pontoFixo.cronogramaSAC(produto, request);
+    }
+
+    @Benchmark
+    public Object cronogramaPRICEPontoFixo() {
+        return pontoFixo.cronogramaPRICE(produto, request);
+    }
+
+    @Benchmark
+    public Object calculaSACPontoFixo() {
+        return pontoFixo.calculaSAC(produto, request);
+    }
+
+    @Benchmark
+    public Object calculaPRICEPontoFixo() {
+        return pontoFixo.calculaPRICE(produto, request);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.MinimoMaximo;
+import com.hackathon.simulacao.repository.ProdutoRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+final class ProdutosExemplo {
+    static final List<Produto> PRODUTOS = List.of(
+            produto(1L, "Produto 1", "0.0179", 0, 24, "200.00", "10000.00"),
+            produto(2L, "Produto 2", "0.0175", 25, 48, "10000.01", "100000.00"),
+            produto(3L, "Produto 3", "0.0182", 49, 96, "100000.01", "1000000.00"),
+            produto(4L, "Produto 4", "0.0151", 96, null, "1000000.01", null)
+    );
+
+    private ProdutosExemplo() {
+    }
+
+    static Produto produtoPara(BigDecimal valor) {
+        return PRODUTOS.stream()
+                .filter(p -> p.getMinValor().compareTo(valor) <= 0)
+                .filter(p -> p.getMaxValor() == null || p.getMaxValor().compareTo(valor) >= 0)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    static ProdutoRepository repositorioEmMemoria() {
+        return (ProdutoRepository) Proxy.newProxyInstance(
+                ProdutoRepository.class.getClassLoader(),
+                new Class<?>[]{ProdutoRepository.class},
+                (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "findAll" -> PRODUTOS;
+                    case "buscaExtremos" -> new MinimoMaximo(new BigDecimal("200.00"), new BigDecimal("1000000.00"));
+                    case "buscaPorValoresMinimoEMaximo" -> Optional.of(produtoPara((BigDecimal) argumentos[0]));
+                    case "buscaSemValorMaximo" -> Optional.of(PRODUTOS.get(3));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == argumentos[0];
+                    case "toString" -> "ProdutoRepository em memória";
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private static Produto produto(Long codigo, String nome, String taxa, Integer minMeses, Integer maxMeses,
+                                   String minValor, String maxValor) {
+        var produto = new Produto();
+        produto.setCodigo(codigo);
+        produto.setNome(nome);
+        produto.setTaxaJuros(new BigDecimal(taxa));
+        produto.setMinMeses(minMeses);
+        produto.setMaxMeses(maxMeses);
+        produto.setMinValor(new BigDecimal(minValor));
+        produto.setMaxValor(maxValor == null ? null : new BigDecimal(maxValor));
+        return produto;
+    }
+}
@@ -0,0 +1,75 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.hackathon.simulacao.enumerable.EstrategiaContencao;
+import com.hackathon.simulacao.mensageria.DestinoLocal;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PublicadorEventosBenchmark {
+    @Param({"1", "100"})
+    private int tamanhoLote;
+
+    @Param({"BLOQUEIA", "DESCARTA_MAIS_ANTIGO"})
+    private EstrategiaContencao estrategia;
+
+    @Param({"2048"})
+    private int tamanhoEvento;
+
+    private PublicadorEventos publicador;
+    private DestinoLocal destino;
+    private byte[] evento;
+
+    @Setup(Level.Trial)
+    public void prepara() {
+        destino = new DestinoLocal();
+        publicador = new PublicadorEventos(destino, new MetricasSimulacao(new SimpleMeterRegistry()), Optional.empty());
+        setField(publicador, "capacidadeFila", 10_000);
+        setField(publicador, "tamanhoLote", tamanhoLote);
+        setField(publicador, "esperaLoteMs", 20L);
+        setField(publicador, "intervaloReenvioMs", 1_000L);
+        setField(publicador, "estrategia", estrategia);
+        setField(publicador, "diretorioDisco", Path.of(System.getProperty("java.io.tmpdir")));
+        publicador.inicia();
+        evento = new byte[tamanhoEvento];
+    }
+
+    @TearDown(Level.Trial)
+    public void encerra() throws InterruptedException {
+        publicador.encerra();
+        System.out.printf("%n%d eventos entregues em %d lotes, %d descartados%n",
+                destino.getEventos(), destino.getLotes(), publicador.status().getDescartados());
+    }
+
+    @Benchmark
+    public void publica() {
+        publicador.publica(evento);
+    }
+}
@@ -0,0 +1,114 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.enumerable.EstrategiaContencao;
+import com.hackathon.simulacao.enumerable.ModoCatalogo;
+import com.hackathon.simulacao.exception.RegraNegocioException;
+import com.hackathon.simulacao.mensageria.CodificadorJson;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.service.CalculoParcialService;
+import com.hackathon.simulacao.model.service.CatalogoProdutoService;
+import com.hackathon.simulacao.model.service.CoalescedorSimulacao;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import com.hackathon.simulacao.model.service.SimulacaoCache;
+import com.hackathon.simulacao.model.service.SimulacaoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejeicaoBenchmark {
+    @Param({"100.00:12", "50000.00:12", "50000.00:100"})
+    private String cenario;
+
+    @Param({"BANCO", "MEMORIA"})
+    private String catalogo;
+
+    private PublicadorEventos publicador;
+    private SimulacaoService antecipada;
+    private SimulacaoService completa;
+    private SimulacaoRequest request;
+
+    @Setup(Level.Trial)
+    public void prepara() {
+        var catalogoService = new CatalogoProdutoService(ProdutosExemplo.repositorioEmMemoria(), evento -> { });
+        setField(catalogoService, "modo", ModoCatalogo.valueOf(catalogo));
+        catalogoService.inicializa();
+
+        var metricas = new MetricasSimulacao(new SimpleMeterRegistry());
+        publicador = new PublicadorEventos(eventos -> { }, metricas, Optional.empty());
+        setField(publicador, "capacidadeFila", 10_000);
+        setField(publicador, "tamanhoLote", 100);
+        setField(publicador, "esperaLoteMs", 20L);
+        setField(publicador, "intervaloReenvioMs", 1_000L);
+        setField(publicador, "estrategia", EstrategiaContencao.DESCARTA_MAIS_ANTIGO);
+        setField(publicador, "diretorioDisco", Path.of(System.getProperty("java.io.tmpdir")));
+        publicador.inicia();
+
+        antecipada = service(catalogoService, metricas, true);
+        completa = service(catalogoService, metricas, false);
+
+        var partes = cenario.split(":");
+        request = new SimulacaoRequest(new BigDecimal(partes[0]), Integer.valueOf(partes[1]));
+    }
+
+    private SimulacaoService service(CatalogoProdutoService catalogoService, MetricasSimulacao metricas, boolean rejeicaoAntecipada) {
+        var service = new SimulacaoService(catalogoService, publicador, new SimulacaoCache(false, 0, Duration.ZERO),
+                new MotorAmortizacaoBigDecimal(), ForkJoinPool.commonPool(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new CalculoParcialService(), metricas,
+                new CodificadorJson(new ObjectMapper()), new CoalescedorSimulacao(true, metricas), new ObjectMapper());
+        setField(service, "rejeicaoAntecipadaHabilitada", rejeicaoAntecipada);
+        return service;
+    }
+
+    @TearDown(Level.Trial)
+    public void encerra() throws InterruptedException {
+        publicador.encerra();
+    }
+
+    @Benchmark
+    public Object rejeicaoAntecipada() {
+        return rejeita(antecipada);
+    }
+
+    @Benchmark
+    public Object rejeicaoCompleta() {
+        return rejeita(completa);
+    }
+
+    private Object rejeita(SimulacaoService service) {
+        try {
+            return service.simula(request);
+        } catch (RegraNegocioException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoJsonBenchmark {
+    @Param({"1", "24", "96", "420", "600"})
+    private int prazo;
+
+    private SimulacaoResponse response;
+    private ObjectMapper compartilhado;
+    private ObjectMapper comBlackbird;
+
+    @Setup
+    public void prepara() {
+        compartilhado = new ObjectMapper();
+        comBlackbird = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        var motor = new MotorAmortizacaoBigDecimal();
+        var request = new SimulacaoRequest(new BigDecimal("2000000.00"), prazo);
+        var produto = ProdutosExemplo.produtoPara(request.getValorDesejado());
+        response = SimulacaoResponse.builder()
+                .codigoProduto(produto.getCodigo())
+                .descricaoProduto(produto.getNome())
+                .taxaJuros(produto.getTaxaJuros())
+                .resultadoSimulacao(List.of(motor.calculaSAC(produto, request), motor.calculaPRICE(produto, request)))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] objectMapperPorChamada() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsString(response).getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public byte[] objectMapperCompartilhado() throws JsonProcessingException {
+        return compartilhado.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] objectMapperComBlackbird() throws JsonProcessingException {
+        return comBlackbird.writeValueAsBytes(response);
+    }
+}
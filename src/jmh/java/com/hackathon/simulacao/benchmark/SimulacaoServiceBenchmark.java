@@ -0,0 +1,111 @@
+package com.hackathon.simulacao.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.enumerable.EstrategiaContencao;
+import com.hackathon.simulacao.enumerable.ModoCatalogo;
+import com.hackathon.simulacao.mensageria.CodificadorJson;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.dto.SimulacaoResumoResponse;
+import com.hackathon.simulacao.model.service.CalculoParcialService;
+import com.hackathon.simulacao.model.service.CatalogoProdutoService;
+import com.hackathon.simulacao.model.service.CoalescedorSimulacao;
+import com.hackathon.simulacao.model.service.MotorAmortizacao;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoPontoFixo;
+import com.hackathon.simulacao.model.service.SimulacaoCache;
+import com.hackathon.simulacao.model.service.SimulacaoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulacaoServiceBenchmark {
+    @Param({"900.00:1", "5000.00:24", "50000.00:48", "500000.00:96", "2000000.00:360", "2000000.00:600"})
+    private String cenario;
+
+    @Param({"BIG_DECIMAL", "PONTO_FIXO"})
+    private String motor;
+
+    private PublicadorEventos publicador;
+    private SimulacaoService service;
+    private SimulacaoRequest request;
+
+    @Setup(Level.Trial)
+    public void prepara() {
+        var catalogo = new CatalogoProdutoService(ProdutosExemplo.repositorioEmMemoria(), evento -> { });
+        setField(catalogo, "modo", ModoCatalogo.MEMORIA);
+        catalogo.inicializa();
+
+        var metricas = new MetricasSimulacao(new SimpleMeterRegistry());
+        publicador = new PublicadorEventos(eventos -> { }, metricas, Optional.empty());
+        setField(publicador, "capacidadeFila", 10_000);
+        setField(publicador, "tamanhoLote", 100);
+        setField(publicador, "esperaLoteMs", 20L);
+        setField(publicador, "intervaloReenvioMs", 1_000L);
+        setField(publicador, "estrategia", EstrategiaContencao.DESCARTA_MAIS_ANTIGO);
+        setField(publicador, "diretorioDisco", Path.of(System.getProperty("java.io.tmpdir")));
+        publicador.inicia();
+
+        MotorAmortizacao motorAmortizacao = "PONTO_FIXO".equals(motor)
+                ? new MotorAmortizacaoPontoFixo()
+                : new MotorAmortizacaoBigDecimal();
+        var cache = new SimulacaoCache(false, 0, Duration.ZERO);
+        var objectMapper = new ObjectMapper();
+        service = new SimulacaoService(catalogo, publicador, cache, motorAmortizacao,
+                ForkJoinPool.commonPool(), Validation.buildDefaultValidatorFactory().getValidator(),
+                new CalculoParcialService(), metricas, new CodificadorJson(objectMapper),
+                new CoalescedorSimulacao(false, metricas), objectMapper);
+
+        var partes = cenario.split(":");
+        request = new SimulacaoRequest(new BigDecimal(partes[0]), Integer.valueOf(partes[1]));
+    }
+
+    @TearDown(Level.Trial)
+    public void encerra() throws InterruptedException {
+        publicador.encerra();
+    }
+
+    @Benchmark
+    public SimulacaoResponse simula() {
+        return service.simula(request);
+    }
+
+    @Benchmark
+    public byte[] simulaSerializada() {
+        return service.simulaSerializada(request);
+    }
+
+    @Benchmark
+    public SimulacaoResumoResponse simulaResumo() {
+        return service.simulaResumo(request);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hackathon.simulacao.carga;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class DistribuicaoSimulacoes {
+    private static final int[] PRAZOS_COMUNS = {6, 12, 18, 24, 30, 36, 48, 60, 72, 84, 96, 120, 180, 240, 360, 420};
+
+    private static final List<Faixa> FAIXAS = List.of(
+            new Faixa(0.45, 200.00, 10_000.00, 1, 24),
+            new Faixa(0.33, 10_000.01, 100_000.00, 25, 48),
+            new Faixa(0.17, 100_000.01, 1_000_000.00, 49, 96),
+            new Faixa(0.05, 1_000_000.01, 5_000_000.00, 96, 420)
+    );
+
+    private final double proporcaoInvalidos;
+
+    private record Faixa(double peso, double minimo, double maximo, int prazoMinimo, int prazoMaximo) {
+    }
+
+    DistribuicaoSimulacoes(double proporcaoInvalidos) {
+        this.proporcaoInvalidos = proporcaoInvalidos;
+    }
+
+    String proximo(SplittableRandom aleatorio) {
+        if (aleatorio.nextDouble() < proporcaoInvalidos)
+            return invalido(aleatorio);
+
+        var faixa = sorteiaFaixa(aleatorio);
+        return json(valor(aleatorio, faixa.minimo(), faixa.maximo()), prazo(aleatorio, faixa));
+    }
+
+    private static Faixa sorteiaFaixa(SplittableRandom aleatorio) {
+        var sorteio = aleatorio.nextDouble();
+        for (var faixa : FAIXAS) {
+            sorteio -= faixa.peso();
+            if (sorteio < 0)
+                return faixa;
+        }
+        return FAIXAS.get(FAIXAS.size() - 1);
+    }
+
+    private static BigDecimal valor(SplittableRandom aleatorio, double minimo, double maximo) {
+        var logaritmo = Math.log(minimo) + aleatorio.nextDouble() * (Math.log(maximo) - Math.log(minimo));
+        var valor = BigDecimal.valueOf(Math.exp(logaritmo)).setScale(2, RoundingMode.HALF_UP);
+        if (aleatorio.nextDouble() < 0.6)
+            valor = valor.setScale(-2, RoundingMode.HALF_UP).setScale(2, RoundingMode.UNNECESSARY);
+        return valor.max(BigDecimal.valueOf(minimo).setScale(2, RoundingMode.CEILING))
+                .min(BigDecimal.valueOf(maximo).setScale(2, RoundingMode.FLOOR));
+    }
+
+    private static int prazo(SplittableRandom aleatorio, Faixa faixa) {
+        if (aleatorio.nextDouble() < 0.8) {
+            var candidatos = Arrays.stream(PRAZOS_COMUNS)
+                    .filter(prazo -> prazo >= faixa.prazoMinimo() && prazo <= faixa.prazoMaximo())
+                    .toArray();
+            if (candidatos.length > 0)
+                return candidatos[aleatorio.nextInt(candidatos.length)];
+        }
+        return aleatorio.nextInt(faixa.prazoMinimo(), faixa.prazoMaximo() + 1);
+    }
+
+    private static String invalido(SplittableRandom aleatorio) {
+        return aleatorio.nextBoolean()
+                ? json(BigDecimal.valueOf(aleatorio.nextInt(1, 200)).setScale(2, RoundingMode.UNNECESSARY), 12)
+                : json(new BigDecimal("50000.00"), aleatorio.nextInt(60, 120));
+    }
+
+    private static String json(BigDecimal valorDesejado, int prazo) {
+        return "{\"valorDesejado\":" + valorDesejado.toPlainString() + ",\"prazo\":" + prazo + "}";
+    }
+}
@@ -0,0 +1,207 @@
+package com.hackathon.simulacao.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+public class GeradorCarga {
+    private final URI destino;
+    private final int concorrencia;
+    private final double taxa;
+    private final Duration aquecimento;
+    private final Duration duracao;
+    private final long semente;
+    private final Path saida;
+    private final DistribuicaoSimulacoes distribuicao;
+    private final int chaves;
+    private final HttpClient cliente;
+
+    private final Recorder latencias = new Recorder(SECONDS.toNanos(60), 3);
+    private final Recorder latenciasSucesso = new Recorder(SECONDS.toNanos(60), 3);
+    private final Map<Integer, LongAdder> respostasPorStatus = new ConcurrentHashMap<>();
+    private final LongAdder falhasConexao = new LongAdder();
+    private final AtomicLong proximoAgendamento = new AtomicLong();
+    private volatile boolean medindo;
+    private volatile boolean ativo = true;
+
+    GeradorCarga(Map<String, String> argumentos) {
+        var url = argumentos.getOrDefault("url", "http://localhost:8080");
+        this.destino = URI.create(url + argumentos.getOrDefault("caminho", "/api/v1/simulacao"));
+        this.concorrencia = Integer.parseInt(argumentos.getOrDefault("concorrencia", "32"));
+        this.taxa = Double.parseDouble(argumentos.getOrDefault("taxa", "0"));
+        this.aquecimento = Duration.ofSeconds(Long.parseLong(argumentos.getOrDefault("aquecimento", "10")));
+        this.duracao = Duration.ofSeconds(Long.parseLong(argumentos.getOrDefault("duracao", "30")));
+        this.semente = Long.parseLong(argumentos.getOrDefault("semente", "42"));
+        this.saida = argumentos.containsKey("saida") ? Path.of(argumentos.get("saida")) : null;
+        this.distribuicao = new DistribuicaoSimulacoes(Double.parseDouble(argumentos.getOrDefault("invalidos", "0.02")));
+        this.chaves = Integer.parseInt(argumentos.getOrDefault("chaves", "0"));
+        this.cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        var argumentos = new LinkedHashMap<String, String>();
+        for (var arg : args) {
+            var partes = arg.replaceFirst("^--", "").split("=", 2);
+            argumentos.put(partes[0], partes.length > 1 ? partes[1] : "true");
+        }
+        new GeradorCarga(argumentos).executa();
+    }
+
+    void executa() throws InterruptedException, IOException {
+        System.out.printf("carga em %s: %d conexões, %s, aquecimento %ds, medição %ds%n", destino, concorrencia,
+                taxa > 0 ? "taxa fixa de %.0f req/s".formatted(taxa) : "ciclo fechado",
+                aquecimento.toSeconds(), duracao.toSeconds());
+
+        var trabalhadores = new ArrayList<Thread>(concorrencia);
+        var inicio = System.nanoTime();
+        proximoAgendamento.set(inicio);
+        for (int i = 0; i < concorrencia; i++) {
+            var aleatorio = new SplittableRandom(semente + i);
+            var trabalhador = new Thread(() -> trabalha(aleatorio), "carga-" + i);
+            trabalhador.setDaemon(true);
+            trabalhadores.add(trabalhador);
+            trabalhador.start();
+        }
+
+        Thread.sleep(aquecimento.toMillis());
+        latencias.getIntervalHistogram();
+        latenciasSucesso.getIntervalHistogram();
+        respostasPorStatus.clear();
+        falhasConexao.reset();
+        medindo = true;
+        var inicioMedicao = System.nanoTime();
+
+        var total = new Histogram(SECONDS.toNanos(60), 3);
+        var totalSucesso = new Histogram(SECONDS.toNanos(60), 3);
+        var fimMedicao = inicioMedicao + duracao.toNanos();
+        Histogram intervalo = null;
+        Histogram intervaloSucesso = null;
+        var ultimaLeitura = inicioMedicao;
+        while (System.nanoTime() < fimMedicao) {
+            Thread.sleep(Math.min(1000, Math.max(1, NANOSECONDS.toMillis(fimMedicao - System.nanoTime()))));
+            intervalo = latencias.getIntervalHistogram(intervalo);
+            total.add(intervalo);
+            intervaloSucesso = latenciasSucesso.getIntervalHistogram(intervaloSucesso);
+            totalSucesso.add(intervaloSucesso);
+            var agora = System.nanoTime();
+            var vazao = intervalo.getTotalCount() / ((agora - ultimaLeitura) / 1e9);
+            ultimaLeitura = agora;
+            System.out.printf("  %6.0f req/s  p50 %7.2f ms  p99 %7.2f ms  2xx p99 %7.2f ms%n", vazao,
+                    ms(intervalo.getValueAtPercentile(50)), ms(intervalo.getValueAtPercentile(99)),
+                    ms(intervaloSucesso.getValueAtPercentile(99)));
+        }
+        medindo = false;
+        var segundos = (System.nanoTime() - inicioMedicao) / 1e9;
+        ativo = false;
+        for (var trabalhador : trabalhadores)
+            trabalhador.join(MILLISECONDS.convert(5, SECONDS));
+
+        relata(total, totalSucesso, segundos);
+    }
+
+    private void trabalha(SplittableRandom aleatorio) {
+        var intervaloAgendamento = taxa > 0 ? (long) (SECONDS.toNanos(1) / taxa) : 0;
+        while (ativo) {
+            var agendado = System.nanoTime();
+            if (intervaloAgendamento > 0) {
+                agendado = proximoAgendamento.getAndAdd(intervaloAgendamento);
+                var espera = agendado - System.nanoTime();
+                if (espera > 0)
+                    LockSupport.parkNanos(espera);
+            }
+
+            var construtor = HttpRequest.newBuilder(destino)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(distribuicao.proximo(aleatorio)));
+            if (chaves > 0)
+                construtor.header("X-API-Key", "cliente-" + aleatorio.nextInt(chaves));
+            var requisicao = construtor.build();
+            try {
+                var resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                var latencia = System.nanoTime() - agendado;
+                if (medindo) {
+                    latencias.recordValue(Math.min(latencia, SECONDS.toNanos(60)));
+                    if (resposta.statusCode() / 100 == 2)
+                        latenciasSucesso.recordValue(Math.min(latencia, SECONDS.toNanos(60)));
+                    respostasPorStatus.computeIfAbsent(resposta.statusCode(), status -> new LongAdder()).increment();
+                }
+            } catch (IOException e) {
+                if (medindo)
+                    falhasConexao.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void relata(Histogram total, Histogram totalSucesso, double segundos) throws IOException {
+        var status = new TreeMap<String, Long>();
+        respostasPorStatus.forEach((codigo, quantidade) -> status.put(String.valueOf(codigo), quantidade.sum()));
+
+        var percentis = new LinkedHashMap<String, Double>();
+        for (var percentil : new double[]{50, 90, 95, 99, 99.9, 99.99})
+            percentis.put("p" + percentil, ms(total.getValueAtPercentile(percentil)));
+        percentis.put("max", ms(total.getMaxValue()));
+
+        var percentisSucesso = new LinkedHashMap<String, Double>();
+        for (var percentil : new double[]{50, 90, 99, 99.9})
+            percentisSucesso.put("p" + percentil, ms(totalSucesso.getValueAtPercentile(percentil)));
+        percentisSucesso.put("max", ms(totalSucesso.getMaxValue()));
+
+        var resultado = new LinkedHashMap<String, Object>();
+        resultado.put("destino", destino.toString());
+        resultado.put("concorrencia", concorrencia);
+        resultado.put("taxaAlvo", taxa);
+        resultado.put("duracaoSegundos", segundos);
+        resultado.put("requisicoes", total.getTotalCount());
+        resultado.put("vazao", total.getTotalCount() / segundos);
+        resultado.put("respostasPorStatus", status);
+        resultado.put("falhasConexao", falhasConexao.sum());
+        resultado.put("latenciaMs", percentis);
+        resultado.put("latencia2xxMs", percentisSucesso);
+
+        System.out.printf("%nrequisições: %d em %.1fs (%.1f req/s)%n", total.getTotalCount(), segundos, total.getTotalCount() / segundos);
+        System.out.printf("status: %s, falhas de conexão: %d%n", status, falhasConexao.sum());
+        percentis.forEach((nome, valor) -> System.out.printf("  %-7s %9.3f ms%n", nome, valor));
+        System.out.printf("respostas 2xx (%d):%n", totalSucesso.getTotalCount());
+        percentisSucesso.forEach((nome, valor) -> System.out.printf("  %-7s %9.3f ms%n", nome, valor));
+
+        if (saida != null) {
+            Files.createDirectories(saida.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(saida.toFile(), resultado);
+            System.out.println("resultado gravado em " + saida);
+        }
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,121 @@
+package com.hackathon.simulacao.carga;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+public class MedidorInicializacao {
+    private static final Pattern INICIALIZACAO = Pattern.compile("Started \\w+ in ([\\d.]+) seconds");
+
+    private final List<String> comando;
+    private final URI destino;
+    private final int execucoes;
+    private final HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private record Medicao(double inicializacaoMs, double primeiraRespostaMs, long rssKb) {
+    }
+
+    MedidorInicializacao(List<String> comando, URI destino, int execucoes) {
+        this.comando = comando;
+        this.destino = destino;
+        this.execucoes = execucoes;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var separador = Arrays.asList(args).indexOf("--");
+        if (separador < 0)
+            throw new IllegalArgumentException("uso: MedidorInicializacao [--url=...] [--execucoes=5] -- <comando da aplicação>");
+
+        var url = "http://localhost:8080/api/v1/simulacao";
+        var execucoes = 5;
+        for (var arg : Arrays.asList(args).subList(0, separador)) {
+            if (arg.startsWith("--url="))
+                url = arg.substring("--url=".length());
+            else if (arg.startsWith("--execucoes="))
+                execucoes = Integer.parseInt(arg.substring("--execucoes=".length()));
+        }
+        new MedidorInicializacao(Arrays.asList(args).subList(separador + 1, args.length), URI.create(url), execucoes).executa();
+    }
+
+    void executa() throws Exception {
+        var medicoes = new ArrayList<Medicao>();
+        for (int i = 0; i < execucoes; i++) {
+            var medicao = mede();
+            medicoes.add(medicao);
+            System.out.printf("execução %d: inicialização %.0f ms, primeira resposta %.0f ms, RSS %d MB%n",
+                    i + 1, medicao.inicializacaoMs(), medicao.primeiraRespostaMs(), medicao.rssKb() / 1024);
+        }
+        System.out.printf("mediana: inicialização %.0f ms, primeira resposta %.0f ms, RSS %d MB%n",
+                mediana(medicoes.stream().mapToDouble(Medicao::inicializacaoMs).toArray()),
+                mediana(medicoes.stream().mapToDouble(Medicao::primeiraRespostaMs).toArray()),
+                (long) mediana(medicoes.stream().mapToDouble(Medicao::rssKb).toArray()) / 1024);
+    }
+
+    private Medicao mede() throws Exception {
+        var inicio = System.nanoTime();
+        var processo = new ProcessBuilder(comando).redirectErrorStream(true).start();
+        var inicializacao = new CompletableFuture<Double>();
+        var leitor = new Thread(() -> leSaida(processo, inicializacao), "saida-aplicacao");
+        leitor.setDaemon(true);
+        leitor.start();
+        try {
+            var requisicao = HttpRequest.newBuilder(destino)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"valorDesejado\":5000.00,\"prazo\":24}"))
+                    .build();
+            while (true) {
+                if (!processo.isAlive())
+                    throw new IllegalStateException("a aplicação terminou com código " + processo.exitValue());
+                try {
+                    if (cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                        break;
+                } catch (ConnectException e) {
+                    Thread.sleep(10);
+                }
+            }
+            var primeiraResposta = (System.nanoTime() - inicio) / 1e6;
+            return new Medicao(inicializacao.getNow(Double.NaN), primeiraResposta, rss(processo.pid()));
+        } finally {
+            processo.destroy();
+            processo.waitFor();
+        }
+    }
+
+    private static void leSaida(Process processo, CompletableFuture<Double> inicializacao) {
+        try (var saida = new BufferedReader(new InputStreamReader(processo.getInputStream()))) {
+            String linha;
+            while ((linha = saida.readLine()) != null) {
+                var encontrado = INICIALIZACAO.matcher(linha);
+                if (encontrado.find())
+                    inicializacao.complete(Double.parseDouble(encontrado.group(1)) * 1000);
+            }
+        } catch (IOException ignorada) {
+        }
+    }
+
+    private static long rss(long pid) throws IOException {
+        return Files.readAllLines(Path.of("/proc/" + pid + "/status")).stream()
+                .filter(linha -> linha.startsWith("VmRSS:"))
+                .map(linha -> Long.parseLong(linha.replaceAll("\\D", "")))
+                .findFirst()
+                .orElse(-1L);
+    }
+
+    private static double mediana(double[] valores) {
+        Arrays.sort(valores);
+        return valores[valores.length / 2];
+    }
+}
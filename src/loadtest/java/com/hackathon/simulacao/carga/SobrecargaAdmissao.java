@@ -0,0 +1,120 @@
+package com.hackathon.simulacao.carga;
+
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.service.ControleAdmissao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+public class SobrecargaAdmissao {
+    private final boolean habilitado;
+    private final double taxa;
+    private final int segundos;
+    private final int aquecimento;
+    private final int trabalhadores;
+    private final long tempoServico;
+
+    SobrecargaAdmissao(Map<String, String> argumentos) {
+        this.habilitado = Boolean.parseBoolean(argumentos.getOrDefault("admissao", "true"));
+        this.taxa = Double.parseDouble(argumentos.getOrDefault("taxa", "1500"));
+        this.segundos = Integer.parseInt(argumentos.getOrDefault("duracao", "30"));
+        this.aquecimento = Integer.parseInt(argumentos.getOrDefault("aquecimento", "5"));
+        this.trabalhadores = Integer.parseInt(argumentos.getOrDefault("trabalhadores", "4"));
+        this.tempoServico = Long.parseLong(argumentos.getOrDefault("servico-ms", "4"));
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        var argumentos = new LinkedHashMap<String, String>();
+        for (var arg : args) {
+            var partes = arg.replaceFirst("^--", "").split("=", 2);
+            argumentos.put(partes[0], partes.length > 1 ? partes[1] : "true");
+        }
+        new SobrecargaAdmissao(argumentos).executa();
+    }
+
+    void executa() throws InterruptedException {
+        var capacidade = trabalhadores * 1000.0 / tempoServico;
+        System.out.printf("admissão %s: %.0f req/s contra capacidade de %.0f req/s (%d trabalhadores de %d ms), %ds%n",
+                habilitado ? "habilitada" : "desabilitada", taxa, capacidade, trabalhadores, tempoServico, segundos);
+
+        var controle = new ControleAdmissao(new MetricasSimulacao(new SimpleMeterRegistry()), 1e9, Integer.MAX_VALUE,
+                Duration.ofMinutes(10), 20, 4, 400, 1.5, 0.2, Duration.ofMillis(100), 16, Duration.ofMillis(10), 4, 1, 40, 4);
+        var servidor = new Semaphore(trabalhadores, true);
+        var latencias = new ConcurrentHistogram(SECONDS.toNanos(120), 3);
+        var porSegundo = new Histogram[segundos];
+        for (int i = 0; i < segundos; i++)
+            porSegundo[i] = new ConcurrentHistogram(SECONDS.toNanos(120), 2);
+        var aceitas = new LongAdder();
+        var recusadas = new LongAdder();
+
+        var executor = Executors.newFixedThreadPool(1000);
+        var intervalo = (long) (SECONDS.toNanos(1) / taxa);
+        var inicio = System.nanoTime();
+        for (long i = 0; i < (long) (taxa * segundos); i++) {
+            var agendado = inicio + i * intervalo;
+            var espera = agendado - System.nanoTime();
+            if (espera > 0)
+                LockSupport.parkNanos(espera);
+
+            executor.execute(() -> {
+                ControleAdmissao.Admissao admissao = null;
+                if (habilitado) {
+                    admissao = controle.admite("carga");
+                    if (!admissao.aceita()) {
+                        recusadas.increment();
+                        return;
+                    }
+                }
+                try {
+                    servidor.acquireUninterruptibly();
+                    try {
+                        Thread.sleep(tempoServico);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        servidor.release();
+                    }
+                } finally {
+                    if (admissao != null)
+                        controle.libera(admissao);
+                }
+
+                var latencia = System.nanoTime() - agendado;
+                var segundo = (int) ((agendado - inicio) / SECONDS.toNanos(1));
+                porSegundo[segundo].recordValue(latencia);
+                if (segundo >= aquecimento)
+                    latencias.recordValue(latencia);
+                aceitas.increment();
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, MINUTES);
+
+        System.out.printf("aceitas: %d (%.0f req/s), recusadas com 429: %d%n", aceitas.sum(), aceitas.sum() / (double) segundos, recusadas.sum());
+        System.out.printf("aceitas após %ds: p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms%n", aquecimento,
+                ms(latencias.getValueAtPercentile(50)), ms(latencias.getValueAtPercentile(99)),
+                ms(latencias.getValueAtPercentile(99.9)), ms(latencias.getMaxValue()));
+        var linha = new StringBuilder("p99 por segundo (ms):");
+        for (var histograma : porSegundo)
+            linha.append(' ').append(Math.round(ms(histograma.getValueAtPercentile(99))));
+        System.out.println(linha);
+        if (habilitado)
+            System.out.println(controle.status());
+    }
+
+    private static double ms(long nanos) {
+        return nanos / (double) MILLISECONDS.toNanos(1);
+    }
+}
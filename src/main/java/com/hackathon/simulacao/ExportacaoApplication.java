@@ -0,0 +1,79 @@
+package com.hackathon.simulacao;
+
+import com.hackathon.simulacao.enumerable.FormatoExportacao;
+import com.hackathon.simulacao.enumerable.ModoResposta;
+import com.hackathon.simulacao.model.service.ExportacaoSimulacao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+public class ExportacaoApplication {
+	private static final int TAMANHO_BUFFER = 1 << 16;
+
+	public static void main(String[] args) throws IOException {
+		var argumentos = new DefaultApplicationArguments(args);
+		if (!argumentos.containsOption("entrada") || !argumentos.containsOption("saida")) {
+			System.err.println("uso: ExportacaoApplication --entrada=<arquivo.csv|arquivo.ndjson[.gz]|-> --saida=<arquivo.csv[.gz]>"
+					+ " [--formato=CSV|NDJSON] [--modo=RESUMO|COMPLETO] [--simulacao.exportacao.paralelismo=N]");
+			System.exit(2);
+		}
+
+		var entrada = argumentos.getOptionValues("entrada").get(0);
+		var saida = Path.of(argumentos.getOptionValues("saida").get(0));
+		var formato = argumentos.containsOption("formato")
+				? FormatoExportacao.valueOf(argumentos.getOptionValues("formato").get(0).toUpperCase())
+				: formatoPorExtensao(entrada);
+		var modo = argumentos.containsOption("modo")
+				? ModoResposta.valueOf(argumentos.getOptionValues("modo").get(0).toUpperCase())
+				: ModoResposta.RESUMO;
+
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		var contexto = new SpringApplicationBuilder(SimulacaoApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties("event-hub.destino=LOCAL", "catalogo.sincronizacao.habilitado=false")
+				.run(args);
+		try (var leitor = new BufferedReader(new InputStreamReader(abreEntrada(entrada), UTF_8), TAMANHO_BUFFER);
+			 var escritor = new BufferedWriter(new OutputStreamWriter(abreSaida(saida), UTF_8), TAMANHO_BUFFER)) {
+			var status = contexto.getBean(ExportacaoSimulacao.class).exporta(leitor, escritor, formato, modo);
+			log.info("exportação concluída em {}: {} simulações ({} rejeitadas), {} linhas em {} s, {} simulações/s, {} linhas/s, catálogo {}",
+					saida, status.getSimulacoes(), status.getRejeitadas(), status.getLinhas(), "%.1f".formatted(status.getSegundos()),
+					Math.round(status.getSimulacoesPorSegundo()), Math.round(status.getLinhasPorSegundo()), status.getVersaoCatalogo());
+		}
+		System.exit(SpringApplication.exit(contexto, () -> 0));
+	}
+
+	private static FormatoExportacao formatoPorExtensao(String entrada) {
+		var nome = entrada.toLowerCase().replaceFirst("\\.gz$", "");
+		return nome.endsWith(".ndjson") || nome.endsWith(".jsonl") ? FormatoExportacao.NDJSON : FormatoExportacao.CSV;
+	}
+
+	private static InputStream abreEntrada(String entrada) throws IOException {
+		if ("-".equals(entrada))
+			return System.in;
+
+		var fluxo = Files.newInputStream(Path.of(entrada));
+		return entrada.endsWith(".gz") ? new GZIPInputStream(fluxo, TAMANHO_BUFFER) : fluxo;
+	}
+
+	private static OutputStream abreSaida(Path saida) throws IOException {
+		var fluxo = Files.newOutputStream(saida);
+		return saida.toString().endsWith(".gz") ? new GZIPOutputStream(fluxo, TAMANHO_BUFFER) : fluxo;
+	}
+}
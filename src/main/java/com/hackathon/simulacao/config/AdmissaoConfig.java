@@ -0,0 +1,27 @@
+package com.hackathon.simulacao.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.model.controller.FiltroAdmissao;
+import com.hackathon.simulacao.model.service.ControleAdmissao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "simulacao.admissao.habilitado", havingValue = "true")
+public class AdmissaoConfig {
+    @Bean
+    public FilterRegistrationBean<FiltroAdmissao> filtroAdmissao(ControleAdmissao controle, ObjectMapper mapeador,
+                                                                @Value("${simulacao.admissao.cabecalho-chave:X-API-Key}") String cabecalhoChave,
+                                                                @Value("${simulacao.admissao.chave-anonima:anonima}") String chaveAnonima) {
+        var registro = new FilterRegistrationBean<>(new FiltroAdmissao(controle, mapeador, cabecalhoChave, chaveAnonima));
+        registro.addUrlPatterns("/api/v1/simulacao", "/api/v1/simulacao/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+}
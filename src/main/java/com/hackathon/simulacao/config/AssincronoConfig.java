@@ -0,0 +1,36 @@
+package com.hackathon.simulacao.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AssincronoConfig implements WebMvcConfigurer {
+    private final ObjectProvider<AsyncTaskExecutor> executorAssincrono;
+
+    public AssincronoConfig(@Qualifier("executorAssincrono") ObjectProvider<AsyncTaskExecutor> executorAssincrono) {
+        this.executorAssincrono = executorAssincrono;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "simulacao.threads-virtuais.habilitado", havingValue = "false", matchIfMissing = true)
+    public static ThreadPoolTaskExecutor executorAssincrono(@Value("${simulacao.assincrono.threads:16}") int threads) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("simulacao-assincrono-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executorAssincrono.getObject());
+    }
+}
@@ -0,0 +1,57 @@
+package com.hackathon.simulacao.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "simulacao.threads-virtuais.diagnostico-pinning", havingValue = "true")
+public class DiagnosticoThreadsVirtuais {
+    private static final String EVENTO_PINNING = "jdk.VirtualThreadPinned";
+
+    @Value("${simulacao.threads-virtuais.limiar-pinning:PT0.02S}")
+    private Duration limiar;
+
+    private final AtomicLong ocorrencias = new AtomicLong();
+    private RecordingStream gravacao;
+
+    @PostConstruct
+    public void inicia() {
+        gravacao = new RecordingStream();
+        gravacao.enable(EVENTO_PINNING).withStackTrace().withThreshold(limiar);
+        gravacao.onEvent(EVENTO_PINNING, this::registra);
+        gravacao.startAsync();
+        log.info("monitorando {} acima de {}", EVENTO_PINNING, limiar);
+    }
+
+    @PreDestroy
+    public void encerra() {
+        gravacao.close();
+    }
+
+    public long getOcorrencias() {
+        return ocorrencias.get();
+    }
+
+    private void registra(RecordedEvent evento) {
+        ocorrencias.incrementAndGet();
+        var pilha = evento.getStackTrace();
+        var origem = pilha == null || pilha.getFrames().isEmpty()
+                ? "origem desconhecida"
+                : pilha.getFrames().stream()
+                        .filter(frame -> frame.getMethod().getType().getName().startsWith("com.hackathon"))
+                        .findFirst()
+                        .orElse(pilha.getFrames().get(0))
+                        .toString();
+        log.warn("thread virtual presa à thread portadora por {} ms em {}", evento.getDuration().toMillis(), origem);
+    }
+}
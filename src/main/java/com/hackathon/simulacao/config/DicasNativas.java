@@ -0,0 +1,37 @@
+package com.hackathon.simulacao.config;
+
+import com.hackathon.simulacao.model.dto.AdmissaoStatus;
+import com.hackathon.simulacao.model.dto.AssinaturaCatalogo;
+import com.hackathon.simulacao.model.dto.CacheStatus;
+import com.hackathon.simulacao.model.dto.CatalogoStatus;
+import com.hackathon.simulacao.model.dto.ErroSistema;
+import com.hackathon.simulacao.model.dto.LimiteAdmissaoStatus;
+import com.hackathon.simulacao.model.dto.MinimoMaximo;
+import com.hackathon.simulacao.model.dto.OutboxStatus;
+import com.hackathon.simulacao.model.dto.PublicadorStatus;
+import com.hackathon.simulacao.model.dto.SimulacaoLoteItem;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.dto.SimulacaoResumoResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(DicasNativas.class)
+@RegisterReflectionForBinding({
+        SimulacaoRequest.class, SimulacaoResponse.class, SimulacaoResumoResponse.class, SimulacaoLoteItem.class,
+        ErroSistema.class, CatalogoStatus.class, CacheStatus.class, PublicadorStatus.class, OutboxStatus.class,
+        AdmissaoStatus.class, LimiteAdmissaoStatus.class
+})
+public class DicasNativas implements RuntimeHintsRegistrar {
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(MinimoMaximo.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(AssinaturaCatalogo.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("db/loadtest/*.sql");
+    }
+}
@@ -0,0 +1,29 @@
+package com.hackathon.simulacao.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class LoteConfig {
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService executorLote(@Value("${simulacao.lote.threads:0}") int threads,
+                                        @Value("${simulacao.lote.capacidade-fila:1000}") int capacidadeFila) {
+        var tamanho = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        var contador = new AtomicInteger();
+        return new ThreadPoolExecutor(tamanho, tamanho, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    var thread = new Thread(tarefa, "simulacao-lote-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
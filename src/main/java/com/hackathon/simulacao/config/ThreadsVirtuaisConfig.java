@@ -0,0 +1,38 @@
+package com.hackathon.simulacao.config;
+
+import com.hackathon.simulacao.util.ThreadsVirtuais;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "simulacao.threads-virtuais.habilitado", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService executorThreadsVirtuais() {
+        if (!ThreadsVirtuais.disponivel())
+            throw new IllegalStateException("simulacao.threads-virtuais.habilitado exige Java 21, versão atual: " + Runtime.version());
+
+        log.info("requisições, consultas e publicação executando em threads virtuais");
+        return ThreadsVirtuais.executorPorTarefa();
+    }
+
+    @Bean
+    public AsyncTaskExecutor executorAssincrono(@Qualifier("executorThreadsVirtuais") ExecutorService executorThreadsVirtuais) {
+        return new TaskExecutorAdapter(executorThreadsVirtuais);
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> tomcatThreadsVirtuais(@Qualifier("executorThreadsVirtuais") ExecutorService executorThreadsVirtuais) {
+        return protocolHandler -> protocolHandler.setExecutor(executorThreadsVirtuais);
+    }
+}
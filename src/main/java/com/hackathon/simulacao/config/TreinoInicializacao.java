@@ -0,0 +1,77 @@
+package com.hackathon.simulacao.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "simulacao.treino.habilitado", havingValue = "true")
+public class TreinoInicializacao implements ApplicationRunner {
+    private static final List<String> SIMULACOES = List.of(
+            "{\"valorDesejado\":900.00,\"prazo\":5}",
+            "{\"valorDesejado\":5000.00,\"prazo\":24}",
+            "{\"valorDesejado\":50000.00,\"prazo\":36}",
+            "{\"valorDesejado\":500000.00,\"prazo\":96}",
+            "{\"valorDesejado\":2000000.00,\"prazo\":360}",
+            "{\"valorDesejado\":100.00,\"prazo\":12}",
+            "{\"valorDesejado\":50000.00,\"prazo\":100}"
+    );
+
+    @Value("${simulacao.treino.repeticoes:50}")
+    private int repeticoes;
+
+    private final ConfigurableApplicationContext contexto;
+    private final Environment ambiente;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        var base = "http://localhost:" + ambiente.getProperty("local.server.port") + "/api/v1/simulacao";
+        var cliente = HttpClient.newHttpClient();
+        var inicio = System.nanoTime();
+        var requisicoes = 0;
+        for (int i = 0; i < repeticoes; i++) {
+            for (var simulacao : SIMULACOES) {
+                envia(cliente, post(base, simulacao));
+                envia(cliente, post(base + "?modo=RESUMO", simulacao));
+                envia(cliente, post(base + "?offset=0&limit=12", simulacao));
+                envia(cliente, post(base + "/fluxo", simulacao));
+                envia(cliente, post(base + "/reativa", simulacao));
+                requisicoes += 5;
+            }
+            envia(cliente, post(base + "/lote", SIMULACOES.toString()));
+            envia(cliente, HttpRequest.newBuilder(URI.create(base + "?valorDesejado=5000.00&prazo=24"))
+                    .header("Accept-Encoding", "gzip")
+                    .build());
+            requisicoes += 2;
+        }
+        log.info("treino concluído: {} requisições em {} ms, encerrando", requisicoes, (System.nanoTime() - inicio) / 1_000_000);
+        System.exit(SpringApplication.exit(contexto, () -> 0));
+    }
+
+    private static HttpRequest post(String url, String corpo) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private static void envia(HttpClient cliente, HttpRequest requisicao) throws IOException, InterruptedException {
+        cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+    }
+}
@@ -0,0 +1,5 @@
+package com.hackathon.simulacao.enumerable;
+
+public enum EstrategiaContencao {
+    BLOQUEIA, DESCARTA_MAIS_ANTIGO, DISCO
+}
@@ -0,0 +1,18 @@
+package com.hackathon.simulacao.enumerable;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EtapaSimulacao {
+    BUSCA_EXTREMOS("busca_extremos"),
+    BUSCA_PRODUTO("busca_produto"),
+    VALIDA_PRAZO("valida_prazo"),
+    CALCULO_SAC("calculo_sac"),
+    CALCULO_PRICE("calculo_price"),
+    SERIALIZACAO("serializacao"),
+    ENVIO_EVENT_HUB("envio_event_hub");
+
+    private final String nome;
+}
@@ -0,0 +1,14 @@
+package com.hackathon.simulacao.enumerable;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FormatoEvento {
+    JSON(0),
+    BINARIO(1),
+    RESUMO(2);
+
+    private final int codigo;
+}
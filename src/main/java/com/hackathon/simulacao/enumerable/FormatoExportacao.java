@@ -0,0 +1,5 @@
+package com.hackathon.simulacao.enumerable;
+
+public enum FormatoExportacao {
+    CSV, NDJSON
+}
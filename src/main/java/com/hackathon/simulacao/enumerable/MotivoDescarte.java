@@ -0,0 +1,5 @@
+package com.hackathon.simulacao.enumerable;
+
+public enum MotivoDescarte {
+    TAXA, CONCORRENCIA, ESPERA_ESGOTADA
+}
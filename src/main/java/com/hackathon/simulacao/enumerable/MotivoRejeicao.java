@@ -0,0 +1,14 @@
+package com.hackathon.simulacao.enumerable;
+
+public enum MotivoRejeicao {
+    VALOR_INFERIOR_MINIMO,
+    PRODUTO_NAO_ENCONTRADO,
+    PRAZO_INFERIOR,
+    PRAZO_SUPERIOR,
+    OFFSET_INVALIDO,
+    LIMIT_INVALIDO,
+    PAGINACAO_EM_RESUMO,
+    LOTE_VAZIO,
+    LOTE_EXCEDIDO,
+    NAO_CLASSIFICADO
+}
@@ -0,0 +1,5 @@
+package com.hackathon.simulacao.enumerable;
+
+public enum TipoMotorAmortizacao {
+    BIG_DECIMAL, PONTO_FIXO
+}
@@ -1,8 +1,13 @@
 package com.hackathon.simulacao.enumerable;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 @Getter
+@RequiredArgsConstructor
 public enum TipoTabelaCorrecaoMonetaria {
-    PRICE, SAC
+    PRICE(0),
+    SAC(1);
+
+    private final int codigo;
 }
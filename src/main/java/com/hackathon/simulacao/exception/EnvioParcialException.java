@@ -0,0 +1,13 @@
+package com.hackathon.simulacao.exception;
+
+import lombok.Getter;
+
+@Getter
+public class EnvioParcialException extends RuntimeException {
+    private final int enviados;
+
+    public EnvioParcialException(int enviados, Throwable causa) {
+        super("Lote enviado parcialmente: %s eventos entregues antes da falha".formatted(enviados), causa);
+        this.enviados = enviados;
+    }
+}
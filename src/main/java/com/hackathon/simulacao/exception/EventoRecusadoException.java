@@ -0,0 +1,13 @@
+package com.hackathon.simulacao.exception;
+
+import lombok.Getter;
+
+@Getter
+public class EventoRecusadoException extends RuntimeException {
+    private final int indice;
+
+    public EventoRecusadoException(int indice, String erro) {
+        super(erro);
+        this.indice = indice;
+    }
+}
@@ -1,17 +1,36 @@
 package com.hackathon.simulacao.exception;
 
+import com.hackathon.simulacao.enumerable.MotivoRejeicao;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.NAO_CLASSIFICADO;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 @Getter
 public class RegraNegocioException extends RuntimeException {
     public RegraNegocioException(String erro) {
+        this(NAO_CLASSIFICADO, erro);
+    }
+
+    public RegraNegocioException(MotivoRejeicao motivo, String erro) {
+        this(motivo, erro, false);
+    }
+
+    private RegraNegocioException(MotivoRejeicao motivo, String erro, boolean antecipada) {
+        super(null, null, !antecipada, !antecipada);
         this.erro = erro;
+        this.motivo = motivo;
         this.status = BAD_REQUEST;
+        this.antecipada = antecipada;
+    }
+
+    public static RegraNegocioException preAlocada(MotivoRejeicao motivo, String erro) {
+        return new RegraNegocioException(motivo, erro, true);
     }
 
     private String erro;
+    private MotivoRejeicao motivo;
     private HttpStatus status;
+    private boolean antecipada;
 }
@@ -1,6 +1,8 @@
 package com.hackathon.simulacao.exception;
 
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
 import com.hackathon.simulacao.model.dto.ErroSistema;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -15,15 +17,27 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class SimulacaoExceptionHandler extends ResponseEntityExceptionHandler {
+    private final MetricasSimulacao metricas;
+
     @ResponseStatus(BAD_REQUEST)
     @ExceptionHandler({RegraNegocioException.class})
     public ResponseEntity<Object> RegraNegocioExceptionHandler(RegraNegocioException ex, WebRequest request) {
+        metricas.registraRejeicao(ex.getMotivo(), ex.isAntecipada());
         return handleExceptionInternal(ex, new ErroSistema(ex.getErro()), new HttpHeaders(), BAD_REQUEST, request);
     }
 
+    @ExceptionHandler({SobrecargaException.class})
+    public ResponseEntity<Object> SobrecargaExceptionHandler(SobrecargaException ex, WebRequest request) {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()));
+        return handleExceptionInternal(ex, new ErroSistema(ex.getErro()), headers, TOO_MANY_REQUESTS, request);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
         var errors = ex.getAllErrors().stream().map(ObjectError::getDefaultMessage).toList();
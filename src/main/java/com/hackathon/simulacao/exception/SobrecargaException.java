@@ -0,0 +1,15 @@
+package com.hackathon.simulacao.exception;
+
+import lombok.Getter;
+
+@Getter
+public class SobrecargaException extends RuntimeException {
+    private final String erro;
+    private final long retryAfterSegundos;
+
+    public SobrecargaException(String erro, long retryAfterSegundos) {
+        super(null, null, false, false);
+        this.erro = erro;
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+}
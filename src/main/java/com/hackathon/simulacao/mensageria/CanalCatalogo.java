@@ -0,0 +1,11 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.model.AvisoCatalogo;
+
+import java.util.function.Consumer;
+
+public interface CanalCatalogo {
+    void publica(AvisoCatalogo aviso);
+
+    void assina(Consumer<AvisoCatalogo> ouvinte);
+}
@@ -0,0 +1,33 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.model.AvisoCatalogo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalogo.sincronizacao.canal", havingValue = "LOCAL", matchIfMissing = true)
+public class CanalCatalogoLocal implements CanalCatalogo {
+    private final List<Consumer<AvisoCatalogo>> ouvintes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publica(AvisoCatalogo aviso) {
+        for (var ouvinte : ouvintes) {
+            try {
+                ouvinte.accept(aviso);
+            } catch (RuntimeException e) {
+                log.error("falha ao entregar o aviso do catálogo {}", aviso.getImpressaoDigital(), e);
+            }
+        }
+    }
+
+    @Override
+    public void assina(Consumer<AvisoCatalogo> ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+}
@@ -0,0 +1,16 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+
+import java.math.BigDecimal;
+
+public interface CodificacaoIncremental {
+    void iniciaTabela(TipoTabelaCorrecaoMonetaria tipo);
+
+    void parcela(SimulacaoParcela parcela);
+
+    void encerraTabela(BigDecimal valorTotalParcelas);
+
+    byte[] bytes();
+}
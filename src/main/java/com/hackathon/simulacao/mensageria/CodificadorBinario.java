@@ -0,0 +1,98 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+import static com.hackathon.simulacao.enumerable.FormatoEvento.BINARIO;
+
+@Component
+@ConditionalOnProperty(name = "event-hub.formato", havingValue = "BINARIO")
+public class CodificadorBinario implements CodificadorEventos {
+    private static final int CAPACIDADE_MAXIMA_COLUNA = 8192;
+
+    @Override
+    public FormatoEvento formato() {
+        return BINARIO;
+    }
+
+    @Override
+    public CodificacaoIncremental inicia(SimulacaoRequest request, SimulacaoResponse cabecalho, int tabelas) {
+        return new Codificacao(request, cabecalho, tabelas);
+    }
+
+    private static final class Codificacao implements CodificacaoIncremental {
+        private final EscritorBinario escritor;
+        private final Coluna amortizacoes;
+        private final Coluna juros;
+        private final Coluna prestacoes;
+        private int parcelas;
+
+        private Codificacao(SimulacaoRequest request, SimulacaoResponse cabecalho, int tabelas) {
+            var capacidadeColuna = Math.min(Math.max(request.getPrazo(), 1), CAPACIDADE_MAXIMA_COLUNA / 2) * 2;
+            this.escritor = new EscritorBinario(64 + tabelas * capacidadeColuna * 3);
+            this.amortizacoes = new Coluna(capacidadeColuna);
+            this.juros = new Coluna(capacidadeColuna);
+            this.prestacoes = new Coluna(capacidadeColuna);
+            escritor.cabecalho(BINARIO, cabecalho);
+            escritor.varint(tabelas);
+        }
+
+        @Override
+        public void iniciaTabela(TipoTabelaCorrecaoMonetaria tipo) {
+            escritor.tipo(tipo);
+            parcelas = 0;
+            amortizacoes.limpa();
+            juros.limpa();
+            prestacoes.limpa();
+        }
+
+        @Override
+        public void parcela(SimulacaoParcela parcela) {
+            amortizacoes.adiciona(parcela.getValorAmortizacao());
+            juros.adiciona(parcela.getValorJuros());
+            prestacoes.adiciona(parcela.getValorPrestacao());
+            parcelas++;
+        }
+
+        @Override
+        public void encerraTabela(BigDecimal valorTotalParcelas) {
+            escritor.varint(parcelas);
+            escritor.anexa(amortizacoes.escritor);
+            escritor.anexa(juros.escritor);
+            escritor.anexa(prestacoes.escritor);
+            escritor.centavosOpcional(valorTotalParcelas);
+        }
+
+        @Override
+        public byte[] bytes() {
+            return escritor.bytes();
+        }
+    }
+
+    private static final class Coluna {
+        private final EscritorBinario escritor;
+        private long anterior;
+
+        private Coluna(int capacidadeInicial) {
+            this.escritor = new EscritorBinario(capacidadeInicial);
+        }
+
+        private void adiciona(BigDecimal valor) {
+            var atual = EscritorBinario.paraCentavos(valor);
+            escritor.zigzag(atual - anterior);
+            anterior = atual;
+        }
+
+        private void limpa() {
+            escritor.limpa();
+            anterior = 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+
+public interface CodificadorEventos {
+    FormatoEvento formato();
+
+    CodificacaoIncremental inicia(SimulacaoRequest request, SimulacaoResponse cabecalho, int tabelas);
+
+    default byte[] codifica(SimulacaoRequest request, SimulacaoResponse calculo) {
+        var codificacao = inicia(request, calculo, calculo.getResultadoSimulacao().size());
+        for (var resultado : calculo.getResultadoSimulacao()) {
+            codificacao.iniciaTabela(resultado.getTipo());
+            resultado.getParcelas().forEach(codificacao::parcela);
+            codificacao.encerraTabela(resultado.getValorTotalParcelas());
+        }
+        return codificacao.bytes();
+    }
+}
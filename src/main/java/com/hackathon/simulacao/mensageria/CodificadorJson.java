@@ -0,0 +1,96 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+
+import static com.hackathon.simulacao.enumerable.FormatoEvento.JSON;
+import static java.util.Objects.nonNull;
+
+@Component
+@ConditionalOnProperty(name = "event-hub.formato", havingValue = "JSON", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CodificadorJson implements CodificadorEventos {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public FormatoEvento formato() {
+        return JSON;
+    }
+
+    @Override
+    @SneakyThrows
+    public byte[] codifica(SimulacaoRequest request, SimulacaoResponse calculo) {
+        return objectMapper.writeValueAsBytes(calculo);
+    }
+
+    @Override
+    public CodificacaoIncremental inicia(SimulacaoRequest request, SimulacaoResponse cabecalho, int tabelas) {
+        return new Codificacao(objectMapper.getFactory(), cabecalho);
+    }
+
+    private static final class Codificacao implements CodificacaoIncremental {
+        private final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        private final JsonGenerator json;
+
+        @SneakyThrows
+        private Codificacao(JsonFactory fabrica, SimulacaoResponse cabecalho) {
+            json = fabrica.createGenerator(saida);
+            json.writeStartObject();
+            json.writeNumberField("codigoProduto", cabecalho.getCodigoProduto());
+            json.writeStringField("descricaoProduto", cabecalho.getDescricaoProduto());
+            json.writeNumberField("taxaJuros", cabecalho.getTaxaJuros());
+            if (nonNull(cabecalho.getVersaoCatalogo()))
+                json.writeStringField("versaoCatalogo", cabecalho.getVersaoCatalogo());
+            json.writeArrayFieldStart("resultadoSimulacao");
+        }
+
+        @Override
+        @SneakyThrows
+        public void iniciaTabela(TipoTabelaCorrecaoMonetaria tipo) {
+            json.writeStartObject();
+            json.writeStringField("tipo", tipo.name());
+            json.writeArrayFieldStart("parcelas");
+        }
+
+        @Override
+        @SneakyThrows
+        public void parcela(SimulacaoParcela parcela) {
+            json.writeStartObject();
+            json.writeNumberField("numero", parcela.getNumero());
+            json.writeNumberField("valorAmortizacao", parcela.getValorAmortizacao());
+            json.writeNumberField("valorJuros", parcela.getValorJuros());
+            json.writeNumberField("valorPrestacao", parcela.getValorPrestacao());
+            json.writeEndObject();
+        }
+
+        @Override
+        @SneakyThrows
+        public void encerraTabela(BigDecimal valorTotalParcelas) {
+            json.writeEndArray();
+            json.writeNumberField("valorTotalParcelas", valorTotalParcelas);
+            json.writeEndObject();
+        }
+
+        @Override
+        @SneakyThrows
+        public byte[] bytes() {
+            json.writeEndArray();
+            json.writeEndObject();
+            json.close();
+            return saida.toByteArray();
+        }
+    }
+}
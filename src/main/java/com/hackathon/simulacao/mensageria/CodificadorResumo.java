@@ -0,0 +1,63 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+import static com.hackathon.simulacao.enumerable.FormatoEvento.RESUMO;
+import static java.util.Objects.isNull;
+
+@Component
+@ConditionalOnProperty(name = "event-hub.formato", havingValue = "RESUMO")
+public class CodificadorResumo implements CodificadorEventos {
+    @Override
+    public FormatoEvento formato() {
+        return RESUMO;
+    }
+
+    @Override
+    public CodificacaoIncremental inicia(SimulacaoRequest request, SimulacaoResponse cabecalho, int tabelas) {
+        return new Codificacao(request, cabecalho, tabelas);
+    }
+
+    private static final class Codificacao implements CodificacaoIncremental {
+        private final EscritorBinario escritor = new EscritorBinario(64);
+        private BigDecimal primeiraPrestacao;
+
+        private Codificacao(SimulacaoRequest request, SimulacaoResponse cabecalho, int tabelas) {
+            escritor.cabecalho(RESUMO, cabecalho);
+            escritor.decimal(request.getValorDesejado());
+            escritor.varint(request.getPrazo());
+            escritor.varint(tabelas);
+        }
+
+        @Override
+        public void iniciaTabela(TipoTabelaCorrecaoMonetaria tipo) {
+            escritor.tipo(tipo);
+            primeiraPrestacao = null;
+        }
+
+        @Override
+        public void parcela(SimulacaoParcela parcela) {
+            if (isNull(primeiraPrestacao))
+                primeiraPrestacao = parcela.getValorPrestacao();
+        }
+
+        @Override
+        public void encerraTabela(BigDecimal valorTotalParcelas) {
+            escritor.centavosOpcional(valorTotalParcelas);
+            escritor.centavosOpcional(primeiraPrestacao);
+        }
+
+        @Override
+        public byte[] bytes() {
+            return escritor.bytes();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.hackathon.simulacao.mensageria;
+
+import java.util.List;
+
+public interface DestinoEventos {
+    void envia(List<byte[]> eventos);
+
+    default int tamanhoMaximoEvento() {
+        return Integer.MAX_VALUE;
+    }
+}
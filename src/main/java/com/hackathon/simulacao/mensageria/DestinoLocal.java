@@ -0,0 +1,37 @@
+package com.hackathon.simulacao.mensageria;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event-hub.destino", havingValue = "LOCAL")
+public class DestinoLocal implements DestinoEventos {
+    private final AtomicLong eventos = new AtomicLong();
+    private final AtomicLong lotes = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    @Override
+    public void envia(List<byte[]> lote) {
+        lotes.incrementAndGet();
+        eventos.addAndGet(lote.size());
+        bytes.addAndGet(lote.stream().mapToLong(evento -> evento.length).sum());
+        log.debug("lote local com {} eventos", lote.size());
+    }
+
+    public long getEventos() {
+        return eventos.get();
+    }
+
+    public long getLotes() {
+        return lotes.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+}
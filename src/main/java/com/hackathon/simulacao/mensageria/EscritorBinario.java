@@ -0,0 +1,108 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class EscritorBinario {
+    static final int VERSAO = 2;
+
+    private byte[] buffer;
+    private int tamanho;
+
+    EscritorBinario(int capacidadeInicial) {
+        this.buffer = new byte[capacidadeInicial];
+    }
+
+    static long paraCentavos(BigDecimal valor) {
+        return valor.movePointRight(2).longValueExact();
+    }
+
+    void cabecalho(FormatoEvento formato, SimulacaoResponse calculo) {
+        umByte(formato.getCodigo());
+        umByte(VERSAO);
+        varint(calculo.getCodigoProduto());
+        texto(calculo.getDescricaoProduto());
+        decimal(calculo.getTaxaJuros());
+        textoOpcional(calculo.getVersaoCatalogo());
+    }
+
+    void tipo(TipoTabelaCorrecaoMonetaria tipo) {
+        umByte(tipo.getCodigo());
+    }
+
+    void centavos(BigDecimal valor) {
+        zigzag(paraCentavos(valor));
+    }
+
+    void centavosOpcional(BigDecimal valor) {
+        presenca(valor);
+        if (valor != null)
+            centavos(valor);
+    }
+
+    void textoOpcional(String valor) {
+        presenca(valor);
+        if (valor != null)
+            texto(valor);
+    }
+
+    void decimal(BigDecimal valor) {
+        varint(valor.scale() < 0 ? 0 : valor.scale());
+        zigzag(valor.setScale(Math.max(valor.scale(), 0)).unscaledValue().longValueExact());
+    }
+
+    void texto(String valor) {
+        var utf8 = valor == null ? new byte[0] : valor.getBytes(UTF_8);
+        varint(utf8.length);
+        garante(utf8.length);
+        System.arraycopy(utf8, 0, buffer, tamanho, utf8.length);
+        tamanho += utf8.length;
+    }
+
+    void zigzag(long valor) {
+        varint((valor << 1) ^ (valor >> 63));
+    }
+
+    void varint(long valor) {
+        garante(10);
+        while ((valor & ~0x7FL) != 0) {
+            buffer[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        buffer[tamanho++] = (byte) valor;
+    }
+
+    void presenca(Object valor) {
+        umByte(valor == null ? 0 : 1);
+    }
+
+    void umByte(int valor) {
+        garante(1);
+        buffer[tamanho++] = (byte) valor;
+    }
+
+    void anexa(EscritorBinario outro) {
+        garante(outro.tamanho);
+        System.arraycopy(outro.buffer, 0, buffer, tamanho, outro.tamanho);
+        tamanho += outro.tamanho;
+    }
+
+    void limpa() {
+        tamanho = 0;
+    }
+
+    byte[] bytes() {
+        return Arrays.copyOf(buffer, tamanho);
+    }
+
+    private void garante(int adicional) {
+        if (tamanho + adicional > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, tamanho + adicional));
+    }
+}
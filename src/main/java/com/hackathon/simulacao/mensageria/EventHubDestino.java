@@ -0,0 +1,77 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventDataBatch;
+import com.azure.messaging.eventhubs.EventHubClientBuilder;
+import com.azure.messaging.eventhubs.EventHubProducerClient;
+import com.hackathon.simulacao.exception.EnvioParcialException;
+import com.hackathon.simulacao.exception.EventoRecusadoException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "event-hub.destino", havingValue = "AZURE", matchIfMissing = true)
+public class EventHubDestino implements DestinoEventos {
+    private final EventHubProducerClient producer;
+    private final int tamanhoMaximoEvento;
+
+    public EventHubDestino(@Value("${event-hub.namespace}") String namespace,
+                           @Value("${event-hub.name}") String eventHubName,
+                           @Value("${event-hub.key-name}") String keyName,
+                           @Value("${event-hub.key-value}") String keyValue,
+                           @Value("${event-hub.tamanho-maximo-evento:1000000}") int tamanhoMaximoEvento) {
+        var connection = "Endpoint=%s;SharedAccessKeyName=%s;SharedAccessKey=%s"
+                .formatted(namespace, keyName, keyValue);
+
+        this.producer = new EventHubClientBuilder()
+                .connectionString(connection, eventHubName)
+                .buildProducerClient();
+        this.tamanhoMaximoEvento = tamanhoMaximoEvento;
+    }
+
+    @Override
+    public void envia(List<byte[]> eventos) {
+        var lotes = new ArrayList<EventDataBatch>();
+        var lote = producer.createBatch();
+        for (int i = 0; i < eventos.size(); i++) {
+            var eventData = new EventData(eventos.get(i));
+            if (lote.tryAdd(eventData))
+                continue;
+
+            lotes.add(lote);
+            lote = producer.createBatch();
+            if (!lote.tryAdd(eventData))
+                throw new EventoRecusadoException(i, "Evento de %s bytes maior que o tamanho máximo do lote do Event Hub"
+                        .formatted(eventos.get(i).length));
+        }
+        if (lote.getCount() > 0)
+            lotes.add(lote);
+
+        var enviados = 0;
+        for (var pronto : lotes) {
+            try {
+                producer.send(pronto);
+            } catch (RuntimeException e) {
+                if (enviados == 0)
+                    throw e;
+                throw new EnvioParcialException(enviados, e);
+            }
+            enviados += pronto.getCount();
+        }
+    }
+
+    @Override
+    public int tamanhoMaximoEvento() {
+        return tamanhoMaximoEvento;
+    }
+
+    @PreDestroy
+    public void fecha() {
+        producer.close();
+    }
+}
@@ -0,0 +1,539 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.exception.EnvioParcialException;
+import com.hackathon.simulacao.exception.EventoRecusadoException;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.OutboxStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.ENVIO_EVENT_HUB;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event-hub.outbox.habilitado", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxEventos {
+    private static final int CABECALHO_REGISTRO = 8;
+    private static final int FIM_SEGMENTO = -1;
+    private static final String EXTENSAO_SEGMENTO = ".log";
+    private static final String DIRETORIO_QUARENTENA = "quarentena";
+    private static final int TAMANHO_CHECKPOINT = 20;
+
+    @Value("${event-hub.outbox.diretorio:${java.io.tmpdir}/simulacao-outbox}")
+    private Path diretorio;
+
+    @Value("${event-hub.outbox.tamanho-segmento:67108864}")
+    private int tamanhoSegmento;
+
+    @Value("${event-hub.outbox.capacidade-fila:10000}")
+    private int capacidadeFila;
+
+    @Value("${event-hub.outbox.sincroniza-disco:true}")
+    private boolean sincronizaDisco;
+
+    @Value("${event-hub.outbox.espera-inicial-reenvio-ms:100}")
+    private long esperaInicialReenvioMs;
+
+    @Value("${event-hub.outbox.espera-maxima-reenvio-ms:30000}")
+    private long esperaMaximaReenvioMs;
+
+    @Value("${event-hub.publicador.tamanho-lote:100}")
+    private int tamanhoLote;
+
+    @Value("${event-hub.publicador.espera-lote-ms:20}")
+    private long esperaLoteMs;
+
+    private final DestinoEventos destino;
+    private final MetricasSimulacao metricas;
+
+    private final AtomicLong gravados = new AtomicLong();
+    private final AtomicLong gruposGravados = new AtomicLong();
+    private final AtomicLong enviados = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong corrompidos = new AtomicLong();
+    private final AtomicLong recusados = new AtomicLong();
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Condition novaGravacao = trava.newCondition();
+
+    private BlockingQueue<Pendente> pendentes;
+    private Thread gravador;
+    private Thread retransmissor;
+    private volatile boolean ativo;
+    private volatile Posicao confirmada;
+    private volatile Posicao retransmitida;
+
+    private long segmentoEscrita;
+    private FileChannel canalEscrita;
+    private MappedByteBuffer mapaEscrita;
+    private int posicaoSincronizada;
+    private boolean escritaInconsistente;
+    private final CRC32C crcEscrita = new CRC32C();
+
+    private long segmentoLeitura;
+    private MappedByteBuffer mapaLeitura;
+    private final CRC32C crcLeitura = new CRC32C();
+
+    private FileChannel canalCheckpoint;
+    private MappedByteBuffer mapaCheckpoint;
+
+    private record Pendente(byte[] evento, CompletableFuture<Void> gravado) {
+    }
+
+    private record Posicao(long segmento, int deslocamento) {
+        boolean antesDe(Posicao outra) {
+            return segmento < outra.segmento || (segmento == outra.segmento && deslocamento < outra.deslocamento);
+        }
+    }
+
+    @PostConstruct
+    public void inicia() throws IOException {
+        Files.createDirectories(diretorio);
+        pendentes = new ArrayBlockingQueue<>(capacidadeFila);
+        canalCheckpoint = FileChannel.open(diretorio.resolve("checkpoint"), CREATE, READ, WRITE);
+        mapaCheckpoint = canalCheckpoint.map(READ_WRITE, 0, TAMANHO_CHECKPOINT);
+        recupera();
+
+        ativo = true;
+        gravador = new Thread(this::gravaEmGrupo, "outbox-gravador");
+        gravador.setDaemon(true);
+        gravador.start();
+        retransmissor = new Thread(this::retransmite, "outbox-retransmissor");
+        retransmissor.setDaemon(true);
+        retransmissor.start();
+    }
+
+    @PreDestroy
+    public void encerra() throws InterruptedException, IOException {
+        ativo = false;
+        gravador.join(TimeUnit.SECONDS.toMillis(10));
+        sinaliza();
+        retransmissor.join(TimeUnit.SECONDS.toMillis(10));
+        canalEscrita.close();
+        canalCheckpoint.close();
+    }
+
+    public void grava(byte[] evento) {
+        aguarda(enfileira(evento));
+    }
+
+    public void gravaTodos(List<byte[]> eventos) {
+        eventos.stream()
+                .map(this::enfileira)
+                .toList()
+                .forEach(this::aguarda);
+    }
+
+    public OutboxStatus status() {
+        var escrita = confirmada;
+        var leitura = retransmitida;
+        return new OutboxStatus(escrita.segmento() - leitura.segmento() + 1, leitura.segmento(), escrita.segmento(),
+                pendentes.size(), gravados.get(), gruposGravados.get(), enviados.get(), falhas.get(), corrompidos.get(), recusados.get());
+    }
+
+    private Pendente enfileira(byte[] evento) {
+        if (evento.length == 0)
+            throw new IllegalArgumentException("Evento vazio não pode ser gravado no outbox");
+        if (CABECALHO_REGISTRO + evento.length + Integer.BYTES > tamanhoSegmento)
+            throw new IllegalArgumentException("Evento de %s bytes maior que o segmento do outbox".formatted(evento.length));
+        if (evento.length > destino.tamanhoMaximoEvento())
+            throw new IllegalArgumentException("Evento de %s bytes maior que o aceito pelo destino (%s bytes)"
+                    .formatted(evento.length, destino.tamanhoMaximoEvento()));
+
+        var pendente = new Pendente(evento, new CompletableFuture<>());
+        try {
+            pendentes.put(pendente);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gravação no outbox interrompida", e);
+        }
+        return pendente;
+    }
+
+    private void aguarda(Pendente pendente) {
+        try {
+            pendente.gravado().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gravação no outbox interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao gravar evento no outbox", e.getCause());
+        }
+    }
+
+    private void gravaEmGrupo() {
+        var grupo = new ArrayList<Pendente>();
+        while (ativo || !pendentes.isEmpty()) {
+            try {
+                var primeiro = pendentes.poll(esperaLoteMs, TimeUnit.MILLISECONDS);
+                if (primeiro == null)
+                    continue;
+
+                grupo.add(primeiro);
+                pendentes.drainTo(grupo);
+                try {
+                    if (escritaInconsistente)
+                        desfazAte(confirmada);
+                    for (var pendente : grupo)
+                        anexa(pendente.evento());
+                    sincroniza();
+                    confirmada = new Posicao(segmentoEscrita, mapaEscrita.position());
+                    gravados.addAndGet(grupo.size());
+                    gruposGravados.incrementAndGet();
+                    grupo.forEach(pendente -> pendente.gravado().complete(null));
+                    sinaliza();
+                } catch (IOException | RuntimeException e) {
+                    log.error("falha ao gravar {} eventos no outbox", grupo.size(), e);
+                    grupo.forEach(pendente -> pendente.gravado().completeExceptionally(e));
+                    desfazAteConfirmada();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                grupo.clear();
+            }
+        }
+    }
+
+    private void anexa(byte[] evento) throws IOException {
+        if (mapaEscrita.remaining() < CABECALHO_REGISTRO + evento.length + Integer.BYTES)
+            rotaciona();
+
+        crcEscrita.reset();
+        crcEscrita.update(evento);
+        mapaEscrita.putInt(evento.length);
+        mapaEscrita.putInt((int) crcEscrita.getValue());
+        mapaEscrita.put(evento);
+    }
+
+    private void rotaciona() throws IOException {
+        var canalAnterior = canalEscrita;
+        var mapaAnterior = mapaEscrita;
+        var sincronizadaAnterior = posicaoSincronizada;
+        abreEscrita(segmentoEscrita + 1, 0);
+
+        mapaAnterior.putInt(FIM_SEGMENTO);
+        if (sincronizaDisco)
+            mapaAnterior.force(sincronizadaAnterior, mapaAnterior.position() - sincronizadaAnterior);
+        canalAnterior.close();
+    }
+
+    private void desfazAteConfirmada() {
+        try {
+            desfazAte(confirmada);
+        } catch (IOException | RuntimeException e) {
+            escritaInconsistente = true;
+            log.error("falha ao desfazer a gravação do outbox até {}", confirmada, e);
+        }
+    }
+
+    private void desfazAte(Posicao posicao) throws IOException {
+        escritaInconsistente = true;
+        if (segmentoEscrita != posicao.segmento()) {
+            canalEscrita.close();
+            for (var segmento = segmentoEscrita; segmento > posicao.segmento(); segmento--)
+                Files.deleteIfExists(arquivoSegmento(segmento));
+            abreEscrita(posicao.segmento(), posicao.deslocamento());
+        }
+        apagaAPartirDe(posicao.deslocamento());
+        if (sincronizaDisco)
+            mapaEscrita.force();
+        posicaoSincronizada = posicao.deslocamento();
+        escritaInconsistente = false;
+    }
+
+    private void apagaAPartirDe(int posicao) {
+        mapaEscrita.position(posicao);
+        while (mapaEscrita.hasRemaining())
+            mapaEscrita.put((byte) 0);
+        mapaEscrita.position(posicao);
+    }
+
+    private void sincroniza() {
+        var posicao = mapaEscrita.position();
+        if (sincronizaDisco && posicao > posicaoSincronizada)
+            mapaEscrita.force(posicaoSincronizada, posicao - posicaoSincronizada);
+        posicaoSincronizada = posicao;
+    }
+
+    private void retransmite() {
+        var lote = new ArrayList<byte[]>(tamanhoLote);
+        var posicoes = new ArrayList<Posicao>(tamanhoLote);
+        while (true) {
+            var limite = confirmada;
+            if (!retransmitida.antesDe(limite)) {
+                if (!ativo && !gravador.isAlive())
+                    return;
+                aguardaGravacao();
+                continue;
+            }
+
+            try {
+                var posicao = le(lote, posicoes, limite);
+                if (!lote.isEmpty() && !enviaComRetentativas(lote, posicoes))
+                    return;
+                registraCheckpoint(posicao);
+            } catch (IOException | RuntimeException e) {
+                log.error("falha ao ler o outbox na posição {}", retransmitida, e);
+                dorme(esperaMaximaReenvioMs);
+            } finally {
+                lote.clear();
+                posicoes.clear();
+            }
+        }
+    }
+
+    private Posicao le(List<byte[]> lote, List<Posicao> posicoes, Posicao limite) throws IOException {
+        var posicao = retransmitida;
+        while (lote.size() < tamanhoLote && posicao.antesDe(limite)) {
+            if (mapaLeitura == null || segmentoLeitura != posicao.segmento())
+                abreLeitura(posicao.segmento());
+
+            mapaLeitura.position(posicao.deslocamento());
+            var tamanho = mapaLeitura.getInt();
+            if (tamanho == FIM_SEGMENTO) {
+                posicao = new Posicao(posicao.segmento() + 1, 0);
+                continue;
+            }
+
+            var fimRegistro = (long) posicao.deslocamento() + CABECALHO_REGISTRO + tamanho;
+            if (tamanho <= 0 || fimRegistro > mapaLeitura.limit()
+                    || (posicao.segmento() == limite.segmento() && fimRegistro > limite.deslocamento())) {
+                var seguinte = posicao.segmento() < limite.segmento() ? new Posicao(posicao.segmento() + 1, 0) : limite;
+                corrompidos.incrementAndGet();
+                log.error("cabeçalho corrompido no outbox em {}, retransmissão continua em {}", posicao, seguinte);
+                posicao = seguinte;
+                continue;
+            }
+
+            var crc = mapaLeitura.getInt();
+            var evento = new byte[tamanho];
+            mapaLeitura.get(evento);
+            crcLeitura.reset();
+            crcLeitura.update(evento);
+            if ((int) crcLeitura.getValue() != crc) {
+                corrompidos.incrementAndGet();
+                var arquivo = colocaEmQuarentena(posicao, evento);
+                log.error("registro com CRC inválido no outbox em {}, copiado para {} e ignorado", posicao, arquivo);
+                posicao = new Posicao(posicao.segmento(), mapaLeitura.position());
+                continue;
+            }
+
+            lote.add(evento);
+            posicoes.add(posicao);
+            posicao = new Posicao(posicao.segmento(), mapaLeitura.position());
+        }
+        return posicao;
+    }
+
+    private Path colocaEmQuarentena(Posicao posicao, byte[] evento) throws IOException {
+        var quarentena = Files.createDirectories(diretorio.resolve(DIRETORIO_QUARENTENA));
+        var arquivo = quarentena.resolve("%020d-%010d.evento".formatted(posicao.segmento(), posicao.deslocamento()));
+        Files.write(arquivo, evento);
+        return arquivo;
+    }
+
+    private boolean enviaComRetentativas(List<byte[]> lote, List<Posicao> posicoes) throws IOException {
+        var espera = esperaInicialReenvioMs;
+        while (!lote.isEmpty()) {
+            try {
+                var inicio = metricas.inicia();
+                destino.envia(lote);
+                metricas.registra(ENVIO_EVENT_HUB, inicio);
+                enviados.addAndGet(lote.size());
+                return true;
+            } catch (EventoRecusadoException e) {
+                if (e.getIndice() < 0 || e.getIndice() >= lote.size())
+                    throw new IllegalStateException("Destino recusou um evento fora do lote", e);
+                var posicao = posicoes.remove(e.getIndice());
+                var arquivo = colocaEmQuarentena(posicao, lote.remove(e.getIndice()));
+                recusados.incrementAndGet();
+                log.error("evento do outbox em {} recusado pelo destino, copiado para {} e ignorado", posicao, arquivo, e);
+            } catch (RuntimeException e) {
+                if (e instanceof EnvioParcialException parcial && parcial.getEnviados() > 0 && parcial.getEnviados() < lote.size()) {
+                    enviados.addAndGet(parcial.getEnviados());
+                    lote.subList(0, parcial.getEnviados()).clear();
+                    posicoes.subList(0, parcial.getEnviados()).clear();
+                }
+                falhas.incrementAndGet();
+                if (!ativo) {
+                    log.warn("outbox encerrado com {} eventos aguardando reenvio a partir de {}", lote.size(), retransmitida);
+                    return false;
+                }
+                log.warn("falha ao enviar lote de {} eventos do outbox, nova tentativa em {} ms", lote.size(), espera, e);
+                dorme(espera);
+                espera = Math.min(espera * 2, esperaMaximaReenvioMs);
+            }
+        }
+        return true;
+    }
+
+    private void registraCheckpoint(Posicao posicao) throws IOException {
+        var anterior = retransmitida;
+        mapaCheckpoint.putLong(0, posicao.segmento());
+        mapaCheckpoint.putInt(Long.BYTES, posicao.deslocamento());
+        mapaCheckpoint.putLong(Long.BYTES + Integer.BYTES, posicao.segmento() ^ posicao.deslocamento());
+        if (sincronizaDisco)
+            mapaCheckpoint.force();
+        retransmitida = posicao;
+
+        for (var segmento = anterior.segmento(); segmento < posicao.segmento(); segmento++)
+            Files.deleteIfExists(arquivoSegmento(segmento));
+    }
+
+    private void recupera() throws IOException {
+        var segmentos = segmentosExistentes();
+        var checkpoint = leCheckpoint();
+        var inicio = checkpoint != null ? checkpoint : new Posicao(segmentos.isEmpty() ? 0 : segmentos.get(0), 0);
+
+        for (var segmento : segmentos) {
+            if (segmento < inicio.segmento())
+                Files.deleteIfExists(arquivoSegmento(segmento));
+        }
+
+        var ultimo = segmentos.isEmpty() ? inicio.segmento() : Math.max(segmentos.get(segmentos.size() - 1), inicio.segmento());
+        abreEscrita(ultimo, 0);
+        var fim = procuraFim();
+        if (fim < 0) {
+            canalEscrita.close();
+            abreEscrita(ultimo + 1, 0);
+        } else {
+            apagaAPartirDe(fim);
+            mapaEscrita.force();
+        }
+        posicaoSincronizada = mapaEscrita.position();
+        confirmada = new Posicao(segmentoEscrita, mapaEscrita.position());
+        retransmitida = confirmada.antesDe(inicio) || Files.notExists(arquivoSegmento(inicio.segmento()))
+                ? new Posicao(confirmada.segmento(), 0)
+                : inicio;
+        log.info("outbox recuperado: retransmissão a partir de {}, gravação em {}", retransmitida, confirmada);
+    }
+
+    private int procuraFim() {
+        var crc = new CRC32C();
+        mapaEscrita.position(0);
+        while (mapaEscrita.remaining() >= CABECALHO_REGISTRO) {
+            var inicio = mapaEscrita.position();
+            var tamanho = mapaEscrita.getInt();
+            if (tamanho == FIM_SEGMENTO)
+                return -1;
+
+            if (tamanho <= 0 || tamanho > mapaEscrita.remaining() - Integer.BYTES)
+                return inicio;
+
+            var esperado = mapaEscrita.getInt();
+            var evento = new byte[tamanho];
+            mapaEscrita.get(evento);
+            crc.reset();
+            crc.update(evento);
+            if ((int) crc.getValue() != esperado)
+                return inicio;
+        }
+        return mapaEscrita.position();
+    }
+
+    private Posicao leCheckpoint() {
+        var segmento = mapaCheckpoint.getLong(0);
+        var deslocamento = mapaCheckpoint.getInt(Long.BYTES);
+        var verificador = mapaCheckpoint.getLong(Long.BYTES + Integer.BYTES);
+        if (verificador != (segmento ^ deslocamento) || (segmento == 0 && deslocamento == 0))
+            return null;
+
+        return new Posicao(segmento, deslocamento);
+    }
+
+    private List<Long> segmentosExistentes() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.map(arquivo -> arquivo.getFileName().toString())
+                    .filter(nome -> nome.endsWith(EXTENSAO_SEGMENTO))
+                    .map(nome -> Long.valueOf(nome.substring(0, nome.length() - EXTENSAO_SEGMENTO.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void abreEscrita(long segmento, int posicao) throws IOException {
+        var canal = FileChannel.open(arquivoSegmento(segmento), CREATE, READ, WRITE);
+        MappedByteBuffer mapa;
+        try {
+            mapa = canal.map(READ_WRITE, 0, Math.max(canal.size(), tamanhoSegmento));
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        mapa.position(posicao);
+        canalEscrita = canal;
+        mapaEscrita = mapa;
+        segmentoEscrita = segmento;
+        posicaoSincronizada = posicao;
+    }
+
+    private void abreLeitura(long segmento) throws IOException {
+        try (var canal = FileChannel.open(arquivoSegmento(segmento), READ)) {
+            mapaLeitura = canal.map(READ_ONLY, 0, canal.size());
+        }
+        segmentoLeitura = segmento;
+    }
+
+    private Path arquivoSegmento(long segmento) {
+        return diretorio.resolve("%020d%s".formatted(segmento, EXTENSAO_SEGMENTO));
+    }
+
+    private void sinaliza() {
+        trava.lock();
+        try {
+            novaGravacao.signalAll();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void aguardaGravacao() {
+        trava.lock();
+        try {
+            if (!retransmitida.antesDe(confirmada))
+                novaGravacao.await(esperaLoteMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void dorme(long milissegundos) {
+        try {
+            Thread.sleep(milissegundos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.EstrategiaContencao;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.PublicadorStatus;
+import com.hackathon.simulacao.util.ThreadsVirtuais;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.ENVIO_EVENT_HUB;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicadorEventos {
+    private static final List<byte[]> FIM = List.of();
+
+    @Value("${event-hub.publicador.capacidade-fila:10000}")
+    private int capacidadeFila;
+
+    @Value("${event-hub.publicador.tamanho-lote:100}")
+    private int tamanhoLote;
+
+    @Value("${event-hub.publicador.espera-lote-ms:20}")
+    private long esperaLoteMs;
+
+    @Value("${event-hub.publicador.estrategia:BLOQUEIA}")
+    private EstrategiaContencao estrategia;
+
+    @Value("${event-hub.publicador.intervalo-reenvio-ms:1000}")
+    private long intervaloReenvioMs;
+
+    @Value("${event-hub.publicador.diretorio-disco:${java.io.tmpdir}/simulacao-eventos}")
+    private Path diretorioDisco;
+
+    @Value("${event-hub.publicador.threads-codificacao:0}")
+    private int threadsCodificacao;
+
+    @Value("${simulacao.threads-virtuais.habilitado:false}")
+    private boolean threadsVirtuais;
+
+    private final DestinoEventos destino;
+    private final MetricasSimulacao metricas;
+    private final Optional<OutboxEventos> outbox;
+
+    private final AtomicLong publicados = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong gravadosEmDisco = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final ReentrantLock travaDisco = new ReentrantLock();
+
+    private BlockingQueue<List<byte[]>> fila;
+    private ThreadPoolExecutor codificacao;
+    private Thread drenador;
+    private volatile boolean ativo;
+    private long ultimaFalha;
+
+    @PostConstruct
+    public void inicia() {
+        fila = new ArrayBlockingQueue<>(capacidadeFila);
+        var threads = threadsCodificacao > 0 ? threadsCodificacao : Runtime.getRuntime().availableProcessors();
+        var contador = new AtomicInteger();
+        codificacao = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    var thread = new Thread(tarefa, "publicador-codificacao-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                PublicadorEventos::aguardaVagaCodificacao);
+        if (outbox.isPresent())
+            return;
+
+        ativo = true;
+        if (threadsVirtuais) {
+            drenador = ThreadsVirtuais.fabrica("publicador-eventos").newThread(this::drena);
+        } else {
+            drenador = new Thread(this::drena, "publicador-eventos");
+            drenador.setDaemon(true);
+        }
+        drenador.start();
+    }
+
+    @PreDestroy
+    public void encerra() throws InterruptedException {
+        codificacao.shutdown();
+        if (!codificacao.awaitTermination(10, TimeUnit.SECONDS))
+            log.warn("{} eventos ainda aguardavam codificação no encerramento", codificacao.getQueue().size());
+        ativo = false;
+        if (drenador != null) {
+            fila.offer(FIM);
+            drenador.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public void publica(byte[] evento) {
+        if (outbox.isPresent()) {
+            outbox.get().grava(evento);
+            return;
+        }
+
+        enfileira(List.of(evento));
+    }
+
+    public void publicaTodos(List<byte[]> eventos) {
+        if (outbox.isPresent()) {
+            outbox.get().gravaTodos(eventos);
+            return;
+        }
+
+        if (!eventos.isEmpty())
+            enfileira(List.copyOf(eventos));
+    }
+
+    public void publicaEmSegundoPlano(Supplier<byte[]> evento) {
+        codificacao.execute(() -> {
+            try {
+                publica(evento.get());
+            } catch (RuntimeException e) {
+                falhas.incrementAndGet();
+                log.error("falha ao codificar ou publicar evento em segundo plano", e);
+            }
+        });
+    }
+
+    public PublicadorStatus status() {
+        return new PublicadorStatus(estrategia, fila.size(), capacidadeFila,
+                publicados.get(), descartados.get(), gravadosEmDisco.get(), falhas.get());
+    }
+
+    private static void aguardaVagaCodificacao(Runnable tarefa, ThreadPoolExecutor executor) {
+        if (executor.isShutdown())
+            throw new RejectedExecutionException("Publicador de eventos encerrado");
+        try {
+            executor.getQueue().put(tarefa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Publicação de evento interrompida", e);
+        }
+    }
+
+    private void enfileira(List<byte[]> eventos) {
+        switch (estrategia) {
+            case BLOQUEIA -> enfileiraBloqueando(eventos);
+            case DESCARTA_MAIS_ANTIGO -> enfileiraDescartando(eventos);
+            case DISCO -> {
+                if (!fila.offer(eventos))
+                    gravaEmDisco(eventos);
+            }
+        }
+    }
+
+    private void enfileiraBloqueando(List<byte[]> eventos) {
+        try {
+            fila.put(eventos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Publicação de evento interrompida", e);
+        }
+    }
+
+    private void enfileiraDescartando(List<byte[]> eventos) {
+        while (!fila.offer(eventos)) {
+            var maisAntigos = fila.poll();
+            if (maisAntigos != null)
+                descartados.addAndGet(maisAntigos.size());
+        }
+    }
+
+    private void drena() {
+        var lote = new ArrayList<byte[]>(tamanhoLote);
+        try {
+            while (ativo) {
+                var primeiro = fila.poll(esperaLoteMs, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    reenviaDoDisco();
+                    continue;
+                }
+
+                lote.addAll(primeiro);
+                var limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaLoteMs);
+                while (ativo && lote.size() < tamanhoLote) {
+                    var proximo = fila.poll();
+                    if (proximo == null) {
+                        var restante = limite - System.nanoTime();
+                        if (restante <= 0)
+                            break;
+
+                        proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+                        if (proximo == null)
+                            break;
+                    }
+                    acumula(lote, proximo);
+                }
+                if (!ativo)
+                    break;
+                enviaLote(lote);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<byte[]> restantes;
+        while ((restantes = fila.poll()) != null)
+            acumula(lote, restantes);
+        enviaLote(lote);
+    }
+
+    private void acumula(List<byte[]> lote, List<byte[]> eventos) {
+        if (lote.size() + eventos.size() > tamanhoLote)
+            enviaLote(lote);
+        lote.addAll(eventos);
+    }
+
+    private void enviaLote(List<byte[]> lote) {
+        if (!lote.isEmpty())
+            envia(lote);
+        lote.clear();
+    }
+
+    private void envia(List<byte[]> lote) {
+        try {
+            var inicio = metricas.inicia();
+            destino.envia(lote);
+            metricas.registra(ENVIO_EVENT_HUB, inicio);
+            publicados.addAndGet(lote.size());
+        } catch (RuntimeException e) {
+            falhas.incrementAndGet();
+            ultimaFalha = System.currentTimeMillis();
+            if (estrategia == EstrategiaContencao.DISCO) {
+                log.warn("falha ao enviar lote de {} eventos, gravando em disco", lote.size(), e);
+                gravaEmDisco(lote);
+            } else {
+                log.error("falha ao enviar lote de {} eventos, eventos descartados", lote.size(), e);
+                descartados.addAndGet(lote.size());
+            }
+        }
+    }
+
+    private void gravaEmDisco(List<byte[]> eventos) {
+        travaDisco.lock();
+        try {
+            Files.createDirectories(diretorioDisco);
+            try (var saida = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(arquivoPendente(), CREATE, APPEND)))) {
+                for (var evento : eventos) {
+                    saida.writeInt(evento.length);
+                    saida.write(evento);
+                }
+            }
+            gravadosEmDisco.addAndGet(eventos.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar eventos em disco", e);
+        } finally {
+            travaDisco.unlock();
+        }
+    }
+
+    private void reenviaDoDisco() {
+        if (System.currentTimeMillis() - ultimaFalha < intervaloReenvioMs)
+            return;
+
+        var reenvio = diretorioDisco.resolve("eventos.reenvio");
+        travaDisco.lock();
+        try {
+            if (Files.notExists(reenvio)) {
+                if (Files.notExists(arquivoPendente()))
+                    return;
+                Files.move(arquivoPendente(), reenvio, ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("falha ao preparar o reenvio dos eventos em disco", e);
+            return;
+        } finally {
+            travaDisco.unlock();
+        }
+
+        var lote = new ArrayList<byte[]>(tamanhoLote);
+        try (var entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(reenvio)))) {
+            while (true) {
+                var evento = new byte[entrada.readInt()];
+                entrada.readFully(evento);
+                lote.add(evento);
+                if (lote.size() == tamanhoLote) {
+                    envia(List.copyOf(lote));
+                    lote.clear();
+                }
+            }
+        } catch (EOFException e) {
+            if (!lote.isEmpty())
+                envia(lote);
+        } catch (IOException e) {
+            log.error("falha ao ler eventos gravados em disco", e);
+            return;
+        }
+
+        try {
+            Files.delete(reenvio);
+        } catch (IOException e) {
+            log.error("falha ao remover o arquivo de reenvio {}", reenvio, e);
+        }
+    }
+
+    private Path arquivoPendente() {
+        return diretorioDisco.resolve("eventos.pendentes");
+    }
+}
@@ -0,0 +1,164 @@
+package com.hackathon.simulacao.metrica;
+
+import com.hackathon.simulacao.enumerable.ClasseAdmissao;
+import com.hackathon.simulacao.enumerable.EtapaSimulacao;
+import com.hackathon.simulacao.enumerable.MotivoDescarte;
+import com.hackathon.simulacao.enumerable.MotivoRejeicao;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Component
+public class MetricasSimulacao {
+    private final MeterRegistry registry;
+    private final Map<EtapaSimulacao, Timer> etapas = new EnumMap<>(EtapaSimulacao.class);
+    private final Map<TipoTabelaCorrecaoMonetaria, Counter> tabelas = new EnumMap<>(TipoTabelaCorrecaoMonetaria.class);
+    private final Map<MotivoRejeicao, Counter> rejeicoes = new EnumMap<>(MotivoRejeicao.class);
+    private final Map<MotivoRejeicao, Counter> rejeicoesAntecipadas = new EnumMap<>(MotivoRejeicao.class);
+    private final Map<Long, Counter> produtos = new ConcurrentHashMap<>();
+    private final DistributionSummary prazos;
+    private final Counter coalescenciaLider;
+    private final Counter coalescenciaSeguidor;
+    private final Counter admissoesAceitas;
+    private final Counter admissoesEnfileiradas;
+    private final Map<MotivoDescarte, Counter> descartes = new EnumMap<>(MotivoDescarte.class);
+    private final Timer esperaAdmissao;
+
+    public MetricasSimulacao(MeterRegistry registry) {
+        this.registry = registry;
+        for (var etapa : EtapaSimulacao.values())
+            etapas.put(etapa, Timer.builder("simulacao.etapa")
+                    .description("Tempo de cada etapa da simulação")
+                    .tag("etapa", etapa.getNome())
+                    .publishPercentileHistogram()
+                    .register(registry));
+
+        for (var tipo : TipoTabelaCorrecaoMonetaria.values())
+            tabelas.put(tipo, Counter.builder("simulacao.tabelas")
+                    .description("Tabelas de amortização calculadas")
+                    .tag("tipo", tipo.name())
+                    .register(registry));
+
+        for (var motivo : MotivoRejeicao.values()) {
+            rejeicoes.put(motivo, rejeicao(motivo, "calculo"));
+            rejeicoesAntecipadas.put(motivo, rejeicao(motivo, "antecipada"));
+        }
+
+        this.prazos = DistributionSummary.builder("simulacao.prazo")
+                .description("Prazo solicitado, em meses")
+                .baseUnit("meses")
+                .serviceLevelObjectives(12, 24, 36, 48, 60, 96, 120, 180, 240, 360, 420)
+                .register(registry);
+
+        this.coalescenciaLider = coalescencia("lider");
+        this.coalescenciaSeguidor = coalescencia("seguidor");
+
+        this.admissoesAceitas = Counter.builder("simulacao.admissao.aceitas")
+                .description("Requisições admitidas pelo controle de admissão")
+                .register(registry);
+        this.admissoesEnfileiradas = Counter.builder("simulacao.admissao.enfileiradas")
+                .description("Requisições que aguardaram vaga no limite de concorrência")
+                .register(registry);
+        for (var motivo : MotivoDescarte.values())
+            descartes.put(motivo, Counter.builder("simulacao.admissao.descartadas")
+                    .description("Requisições recusadas com 429 pelo controle de admissão")
+                    .tag("motivo", motivo.name())
+                    .register(registry));
+        this.esperaAdmissao = Timer.builder("simulacao.admissao.espera")
+                .description("Tempo aguardando vaga no limite de concorrência")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter rejeicao(MotivoRejeicao motivo, String fase) {
+        return Counter.builder("simulacao.rejeicoes")
+                .description("Simulações rejeitadas por regra de negócio")
+                .tag("motivo", motivo.name())
+                .tag("fase", fase)
+                .register(registry);
+    }
+
+    private Counter coalescencia(String papel) {
+        return Counter.builder("simulacao.coalescencia")
+                .description("Simulações que calcularam (lider) ou reaproveitaram (seguidor) um cálculo em andamento")
+                .tag("papel", papel)
+                .register(registry);
+    }
+
+    public long inicia() {
+        return System.nanoTime();
+    }
+
+    public void registra(EtapaSimulacao etapa, long inicio) {
+        etapas.get(etapa).record(System.nanoTime() - inicio, NANOSECONDS);
+    }
+
+    public void registraSimulacao(Long codigoProduto, int prazo) {
+        produtos.computeIfAbsent(codigoProduto, codigo -> Counter.builder("simulacao.produto")
+                        .description("Simulações atendidas por produto")
+                        .tag("codigo", String.valueOf(codigo))
+                        .register(registry))
+                .increment();
+        prazos.record(prazo);
+    }
+
+    public void registraTabela(TipoTabelaCorrecaoMonetaria tipo) {
+        tabelas.get(tipo).increment();
+    }
+
+    public void registraRejeicao(MotivoRejeicao motivo, boolean antecipada) {
+        (antecipada ? rejeicoesAntecipadas : rejeicoes).get(motivo).increment();
+    }
+
+    public void registraCoalescencia(boolean seguidor) {
+        (seguidor ? coalescenciaSeguidor : coalescenciaLider).increment();
+    }
+
+    public void monitoraEmAndamento(Map<?, ?> emAndamento) {
+        Gauge.builder("simulacao.coalescencia.em.andamento", emAndamento, Map::size)
+                .description("Cálculos distintos em andamento")
+                .register(registry);
+    }
+
+    public void registraAdmissao() {
+        admissoesAceitas.increment();
+    }
+
+    public void registraEnfileirada() {
+        admissoesEnfileiradas.increment();
+    }
+
+    public void registraDescarte(MotivoDescarte motivo) {
+        descartes.get(motivo).increment();
+    }
+
+    public void registraEsperaAdmissao(long inicio) {
+        esperaAdmissao.record(System.nanoTime() - inicio, NANOSECONDS);
+    }
+
+    public void monitoraAdmissao(ClasseAdmissao classe, Supplier<Number> limite, Supplier<Number> emAndamento, Supplier<Number> fila) {
+        Gauge.builder("simulacao.admissao.limite", limite)
+                .description("Limite de concorrência calculado pelo gradiente de latência")
+                .tag("classe", classe.name())
+                .register(registry);
+        Gauge.builder("simulacao.admissao.em.andamento", emAndamento)
+                .description("Requisições admitidas em andamento")
+                .tag("classe", classe.name())
+                .register(registry);
+        Gauge.builder("simulacao.admissao.fila", fila)
+                .description("Requisições aguardando vaga")
+                .tag("classe", classe.name())
+                .register(registry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hackathon.simulacao.model;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class AvisoCatalogo {
+    String impressaoDigital;
+    Instant ativaEm;
+}
@@ -0,0 +1,8 @@
+package com.hackathon.simulacao.model;
+
+import lombok.Value;
+
+@Value
+public class CatalogoAtualizadoEvento {
+    CatalogoProduto catalogo;
+}
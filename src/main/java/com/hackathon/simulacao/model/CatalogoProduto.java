@@ -0,0 +1,115 @@
+package com.hackathon.simulacao.model;
+
+import com.hackathon.simulacao.model.dto.MinimoMaximo;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.NONE;
+
+@Getter
+public class CatalogoProduto implements ConsultaProduto {
+    private final long versao;
+    private final String impressaoDigital;
+    private final LocalDateTime atualizadoEm;
+    private final List<Produto> produtos;
+    @Getter(NONE)
+    private final MinimoMaximo extremos;
+
+    private final BigDecimal[] minimos;
+    private final Produto[] produtosPorMinimo;
+    private final Produto produtoSemValorMaximo;
+    private final LimitesSimulacao limites;
+
+    public CatalogoProduto(long versao, List<Produto> produtos) {
+        this.versao = versao;
+        this.atualizadoEm = LocalDateTime.now();
+        this.produtos = List.copyOf(produtos);
+        this.impressaoDigital = impressaoDigital(produtos);
+
+        var ordenados = produtos.stream()
+                .filter(p -> nonNull(p.getMinValor()) && nonNull(p.getMaxValor()))
+                .sorted(Comparator.comparing(Produto::getMinValor))
+                .toArray(Produto[]::new);
+        this.produtosPorMinimo = ordenados;
+        this.minimos = new BigDecimal[ordenados.length];
+        for (int i = 0; i < ordenados.length; i++)
+            this.minimos[i] = ordenados[i].getMinValor();
+
+        this.produtoSemValorMaximo = produtos.stream()
+                .filter(p -> isNull(p.getMaxValor()))
+                .findFirst()
+                .orElse(null);
+        this.extremos = new MinimoMaximo(
+                produtos.stream().map(Produto::getMinValor).filter(Objects::nonNull).min(BigDecimal::compareTo).orElse(null),
+                produtos.stream().map(Produto::getMaxValor).filter(Objects::nonNull).max(BigDecimal::compareTo).orElse(null)
+        );
+        this.limites = new LimitesSimulacao(this);
+    }
+
+    @Override
+    public MinimoMaximo buscaExtremos() {
+        return extremos;
+    }
+
+    @Override
+    public Optional<Produto> buscaPorValoresMinimoEMaximo(BigDecimal valor) {
+        var indice = ultimoMinimoAte(valor);
+        if (indice < 0)
+            return Optional.empty();
+
+        var produto = produtosPorMinimo[indice];
+        return produto.getMaxValor().compareTo(valor) >= 0 ? Optional.of(produto) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Produto> buscaSemValorMaximo() {
+        return Optional.ofNullable(produtoSemValorMaximo);
+    }
+
+    public static String impressaoDigital(List<Produto> produtos) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            produtos.stream()
+                    .sorted(Comparator.comparing(Produto::getCodigo))
+                    .map(p -> String.join("|", String.valueOf(p.getCodigo()), p.getNome(), texto(p.getTaxaJuros()),
+                            String.valueOf(p.getMinMeses()), String.valueOf(p.getMaxMeses()),
+                            texto(p.getMinValor()), texto(p.getMaxValor())) + "\n")
+                    .forEach(linha -> digest.update(linha.getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String texto(BigDecimal valor) {
+        return isNull(valor) ? "null" : valor.toPlainString();
+    }
+
+    private int ultimoMinimoAte(BigDecimal valor) {
+        int inicio = 0;
+        int fim = minimos.length - 1;
+        int encontrado = -1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (minimos[meio].compareTo(valor) <= 0) {
+                encontrado = meio;
+                inicio = meio + 1;
+            } else {
+                fim = meio - 1;
+            }
+        }
+        return encontrado;
+    }
+}
@@ -0,0 +1,14 @@
+package com.hackathon.simulacao.model;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+public class ChaveSimulacao {
+    Long codigoProduto;
+    BigDecimal taxaJuros;
+    BigDecimal valorDesejado;
+    Integer prazo;
+    String versaoCatalogo;
+}
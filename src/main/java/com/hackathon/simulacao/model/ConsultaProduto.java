@@ -0,0 +1,14 @@
+package com.hackathon.simulacao.model;
+
+import com.hackathon.simulacao.model.dto.MinimoMaximo;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface ConsultaProduto {
+    MinimoMaximo buscaExtremos();
+
+    Optional<Produto> buscaPorValoresMinimoEMaximo(BigDecimal valor);
+
+    Optional<Produto> buscaSemValorMaximo();
+}
@@ -0,0 +1,68 @@
+package com.hackathon.simulacao.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.RoundingMode.HALF_UP;
+
+public class FatoresPrice {
+    private final BigDecimal taxaJuros;
+    private final int prazoInicial;
+    private final BigDecimal[] potencias;
+    private final BigDecimal[] coeficientes;
+
+    private FatoresPrice(BigDecimal taxaJuros, int prazoInicial, int prazoFinal) {
+        this.taxaJuros = taxaJuros;
+        this.prazoInicial = prazoInicial;
+        this.potencias = new BigDecimal[prazoFinal - prazoInicial + 1];
+        this.coeficientes = new BigDecimal[potencias.length];
+
+        var base = taxaJuros.add(ONE);
+        var potencia = base.pow(prazoInicial);
+        for (int prazo = prazoInicial; prazo <= prazoFinal; prazo++) {
+            var jurosExponencial = potencia.setScale(6, HALF_UP);
+            potencias[prazo - prazoInicial] = jurosExponencial;
+            coeficientes[prazo - prazoInicial] = coeficiente(jurosExponencial, taxaJuros);
+            potencia = potencia.multiply(base);
+        }
+    }
+
+    public static FatoresPrice de(Produto produto, int prazoMaximo) {
+        if (produto.getTaxaJuros() == null || produto.getMinMeses() == null)
+            return null;
+
+        var prazoInicial = Math.max(produto.getMinMeses(), 1);
+        var prazoFinal = produto.getMaxMeses() == null ? prazoMaximo : Math.min(produto.getMaxMeses(), prazoMaximo);
+        if (prazoFinal < prazoInicial)
+            return null;
+
+        return new FatoresPrice(produto.getTaxaJuros(), prazoInicial, prazoFinal);
+    }
+
+    private static BigDecimal coeficiente(BigDecimal jurosExponencial, BigDecimal taxaJuros) {
+        var segundaParte = jurosExponencial.subtract(ONE);
+        if (segundaParte.signum() == 0)
+            return null;
+
+        var primeiraParte = jurosExponencial.multiply(taxaJuros).setScale(6, HALF_UP);
+        return primeiraParte.divide(segundaParte, new MathContext(6));
+    }
+
+    public BigDecimal coeficiente(BigDecimal taxaJuros, int prazo) {
+        var indice = prazo - prazoInicial;
+        if (!this.taxaJuros.equals(taxaJuros) || indice < 0 || indice >= coeficientes.length)
+            return null;
+
+        return coeficientes[indice];
+    }
+
+    public BigDecimal potencia(int prazo) {
+        var indice = prazo - prazoInicial;
+        return indice < 0 || indice >= potencias.length ? null : potencias[indice];
+    }
+
+    public int quantidadePrazos() {
+        return coeficientes.length;
+    }
+}
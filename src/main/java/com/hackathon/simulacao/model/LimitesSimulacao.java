@@ -0,0 +1,74 @@
+package com.hackathon.simulacao.model;
+
+import com.hackathon.simulacao.exception.RegraNegocioException;
+
+import java.math.BigDecimal;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PRAZO_INFERIOR;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PRAZO_SUPERIOR;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PRODUTO_NAO_ENCONTRADO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.VALOR_INFERIOR_MINIMO;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class LimitesSimulacao {
+    private final ConsultaProduto catalogo;
+    private final BigDecimal minimo;
+    private final BigDecimal maximo;
+    private final RegraNegocioException valorInferiorMinimo;
+    private final RegraNegocioException produtoNaoEncontrado;
+    private final Map<Produto, LimitesPrazo> prazos = new IdentityHashMap<>();
+
+    private record LimitesPrazo(int minimo, Integer maximo, RegraNegocioException inferior, RegraNegocioException superior) {
+    }
+
+    public LimitesSimulacao(CatalogoProduto catalogo) {
+        this.catalogo = catalogo;
+        this.minimo = catalogo.buscaExtremos().getMinimo();
+        this.maximo = catalogo.buscaExtremos().getMaximo();
+        this.valorInferiorMinimo = RegraNegocioException.preAlocada(VALOR_INFERIOR_MINIMO, "valor inferior ao mínimo de R$ " + minimo);
+        this.produtoNaoEncontrado = RegraNegocioException.preAlocada(PRODUTO_NAO_ENCONTRADO, "Produto não encontrado");
+
+        for (var produto : catalogo.getProdutos()) {
+            if (isNull(produto.getMinMeses()))
+                continue;
+
+            prazos.put(produto, new LimitesPrazo(
+                    produto.getMinMeses(),
+                    produto.getMaxMeses(),
+                    RegraNegocioException.preAlocada(PRAZO_INFERIOR, "Prazo inferior a %s parcelas para o valor desejado".formatted(produto.getMinMeses())),
+                    nonNull(produto.getMaxMeses())
+                            ? RegraNegocioException.preAlocada(PRAZO_SUPERIOR, "Prazo superior a %s parcelas para o valor desejado".formatted(produto.getMaxMeses()))
+                            : null
+            ));
+        }
+    }
+
+    public RegraNegocioException rejeicao(BigDecimal valorDesejado, Integer prazo) {
+        if (isNull(minimo) || isNull(maximo) || isNull(valorDesejado) || isNull(prazo))
+            return null;
+
+        if (valorDesejado.compareTo(minimo) < 0)
+            return valorInferiorMinimo;
+
+        var produto = valorDesejado.compareTo(maximo) < 0
+                ? catalogo.buscaPorValoresMinimoEMaximo(valorDesejado)
+                : catalogo.buscaSemValorMaximo();
+        if (produto.isEmpty())
+            return produtoNaoEncontrado;
+
+        var limites = prazos.get(produto.get());
+        if (isNull(limites))
+            return null;
+
+        if (prazo < limites.minimo())
+            return limites.inferior();
+
+        if (nonNull(limites.maximo()) && prazo > limites.maximo())
+            return limites.superior();
+
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hackathon.simulacao.model.controller;
+
+import com.hackathon.simulacao.exception.RegraNegocioException;
+import com.hackathon.simulacao.mensageria.OutboxEventos;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.model.dto.AdmissaoStatus;
+import com.hackathon.simulacao.model.dto.CacheStatus;
+import com.hackathon.simulacao.model.dto.CatalogoStatus;
+import com.hackathon.simulacao.model.dto.OutboxStatus;
+import com.hackathon.simulacao.model.dto.PublicadorStatus;
+import com.hackathon.simulacao.model.service.CatalogoProdutoService;
+import com.hackathon.simulacao.model.service.ControleAdmissao;
+import com.hackathon.simulacao.model.service.SimulacaoCache;
+import com.hackathon.simulacao.model.service.SincronizacaoCatalogo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@Tag(name = "Administração Controller")
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdministracaoController {
+
+    private final CatalogoProdutoService catalogoService;
+    private final PublicadorEventos publicador;
+    private final SimulacaoCache cache;
+    private final Optional<OutboxEventos> outbox;
+    private final Optional<SincronizacaoCatalogo> sincronizacao;
+    private final Optional<ControleAdmissao> admissao;
+
+    @GetMapping("/catalogo")
+    @Operation(summary = "Catálogo", description = "Situação do catálogo de produtos em memória")
+    public CatalogoStatus statusCatalogo() {
+        return catalogoService.status();
+    }
+
+    @PostMapping("/catalogo/atualizacao")
+    @Operation(summary = "Atualização do catálogo", description = "Recarrega o catálogo de produtos a partir do banco; com a "
+            + "sincronização habilitada, avisa todas as instâncias e a nova versão é ativada no horário combinado")
+    public CatalogoStatus atualizaCatalogo() {
+        return sincronizacao.map(SincronizacaoCatalogo::verifica)
+                .orElseGet(catalogoService::atualiza);
+    }
+
+    @GetMapping("/publicador")
+    @Operation(summary = "Publicador", description = "Situação da fila de eventos de simulação")
+    public PublicadorStatus statusPublicador() {
+        return publicador.status();
+    }
+
+    @GetMapping("/outbox")
+    @Operation(summary = "Outbox", description = "Situação do log local de eventos e da retransmissão ao Event Hub")
+    public OutboxStatus statusOutbox() {
+        return outbox.map(OutboxEventos::status)
+                .orElseThrow(() -> new RegraNegocioException("O outbox de eventos não está habilitado"));
+    }
+
+    @GetMapping("/admissao")
+    @Operation(summary = "Admissão", description = "Limite de concorrência adaptativo, fila de espera e latências medidas pelo controle de admissão")
+    public AdmissaoStatus statusAdmissao() {
+        return admissao.map(ControleAdmissao::status)
+                .orElseThrow(() -> new RegraNegocioException("O controle de admissão não está habilitado"));
+    }
+
+    @GetMapping("/cache")
+    @Operation(summary = "Cache", description = "Contadores do cache de simulações")
+    public CacheStatus statusCache() {
+        return cache.status();
+    }
+
+    @DeleteMapping("/cache")
+    @Operation(summary = "Limpeza do cache", description = "Remove todas as simulações do cache")
+    public CacheStatus limpaCache() {
+        cache.invalida();
+        return cache.status();
+    }
+}
@@ -0,0 +1,107 @@
+package com.hackathon.simulacao.model.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.enumerable.ClasseAdmissao;
+import com.hackathon.simulacao.model.dto.ErroSistema;
+import com.hackathon.simulacao.model.service.ControleAdmissao;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hackathon.simulacao.enumerable.ClasseAdmissao.LOTE_FLUXO;
+import static com.hackathon.simulacao.enumerable.ClasseAdmissao.SIMULACAO;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.TAXA;
+import static java.util.Objects.isNull;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RequiredArgsConstructor
+public class FiltroAdmissao extends OncePerRequestFilter {
+    private final ControleAdmissao controle;
+    private final ObjectMapper mapeador;
+    private final String cabecalhoChave;
+    private final String chaveAnonima;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var admissao = controle.admite(chave(request), classe(request));
+        if (!admissao.aceita()) {
+            recusa(response, admissao);
+            return;
+        }
+
+        var liberacao = new Liberacao(controle, admissao);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted())
+                request.getAsyncContext().addListener(liberacao);
+            else
+                liberacao.libera();
+        }
+    }
+
+    private String chave(HttpServletRequest request) {
+        var chave = request.getHeader(cabecalhoChave);
+        return isNull(chave) || chave.isBlank() ? chaveAnonima : chave;
+    }
+
+    private static ClasseAdmissao classe(HttpServletRequest request) {
+        var caminho = request.getRequestURI();
+        return caminho.endsWith("/lote") || caminho.endsWith("/fluxo") ? LOTE_FLUXO : SIMULACAO;
+    }
+
+    private void recusa(HttpServletResponse response, ControleAdmissao.Admissao admissao) throws IOException {
+        var mensagem = admissao.motivo() == TAXA
+                ? "Limite de requisições da chave de API excedido"
+                : "Serviço sobrecarregado, tente novamente em instantes";
+        var corpo = mapeador.writeValueAsBytes(new ErroSistema(mensagem));
+        response.setStatus(TOO_MANY_REQUESTS.value());
+        response.setHeader(RETRY_AFTER, String.valueOf(Math.max(1, (admissao.retryAfter() + 999_999_999) / 1_000_000_000)));
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Liberacao implements AsyncListener {
+        private final ControleAdmissao controle;
+        private final ControleAdmissao.Admissao admissao;
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        void libera() {
+            if (liberada.compareAndSet(false, true))
+                controle.libera(admissao);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            libera();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            libera();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            libera();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
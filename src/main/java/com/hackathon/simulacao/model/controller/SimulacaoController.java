@@ -1,23 +1,57 @@
 package com.hackathon.simulacao.model.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.enumerable.ModoResposta;
+import com.hackathon.simulacao.exception.RegraNegocioException;
 import com.hackathon.simulacao.model.dto.ErroSistema;
+import com.hackathon.simulacao.model.dto.SimulacaoLoteItem;
 import com.hackathon.simulacao.model.dto.SimulacaoRequest;
 import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.dto.SimulacaoResumoResponse;
+import com.hackathon.simulacao.model.service.CatalogoProdutoService;
+import com.hackathon.simulacao.model.service.SimulacaoReativaService;
 import com.hackathon.simulacao.model.service.SimulacaoService;
+import com.hackathon.simulacao.util.CompressaoUtil;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import static com.hackathon.simulacao.enumerable.ModoResposta.RESUMO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PAGINACAO_EM_RESUMO;
+import static com.hackathon.simulacao.util.CompressaoUtil.aceitaGzip;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 
 @Tag(name = "Simulação Controller")
@@ -27,11 +61,61 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class SimulacaoController {
 
     private final SimulacaoService service;
+    private final SimulacaoReativaService reativaService;
+    private final CatalogoProdutoService catalogoService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${simulacao.http-cache.habilitado:true}")
+    private boolean cacheHttpHabilitado;
+
+    @Value("${simulacao.http-cache.max-age:PT5M}")
+    private Duration cacheHttpMaxAge;
+
+    @Value("${simulacao.http-cache.nivel-gzip:1}")
+    private int nivelGzip;
 
     @PostMapping
     @Operation(
             summary = "Simulação",
-            description = "Endpoint para fazer uma simulação de valores para empréstimo",
+            description = "Endpoint para fazer uma simulação de valores para empréstimo. Com modo=RESUMO retorna apenas "
+                    + "totais, primeira e última parcela; com offset/limit retorna somente a página de parcelas pedida. "
+                    + "offset/limit com modo=RESUMO é rejeitado com 400",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Sucesso na simulação",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(
+                                            oneOf = {SimulacaoResponse.class, SimulacaoResumoResponse.class},
+                                            description = "Resposta de sucesso da simulação"
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Erro do sistema",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErroSistema.class)
+                            )
+                    )
+            }
+    )
+    private ResponseEntity<Object> buscaSimulacao(
+            @Valid @RequestBody SimulacaoRequest request,
+            @Parameter(description = "COMPLETO (padrão) ou RESUMO") @RequestParam(defaultValue = "COMPLETO") ModoResposta modo,
+            @Parameter(description = "quantidade de parcelas a pular; não pode ser usado com modo=RESUMO") @RequestParam(required = false) Integer offset,
+            @Parameter(description = "quantidade máxima de parcelas por tabela; não pode ser usado com modo=RESUMO") @RequestParam(required = false) Integer limit) {
+        validaModo(modo, offset, limit);
+        return simula(request, modo, offset, limit);
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Simulação com cache HTTP",
+            description = "Mesma simulação do POST com valorDesejado e prazo na query string. A resposta traz ETag e "
+                    + "Cache-Control; com If-None-Match igual ao ETag atual retorna 304 sem recalcular nem publicar o evento",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -39,11 +123,12 @@ public class SimulacaoController {
                             content = @Content(
                                     mediaType = APPLICATION_JSON_VALUE,
                                     schema = @Schema(
-                                            implementation = SimulacaoResponse.class,
+                                            oneOf = {SimulacaoResponse.class, SimulacaoResumoResponse.class},
                                             description = "Resposta de sucesso da simulação"
                                     )
                             )
                     ),
+                    @ApiResponse(responseCode = "304", description = "Simulação inalterada desde o ETag informado"),
                     @ApiResponse(
                             responseCode = "400",
                             description = "Erro do sistema",
@@ -54,7 +139,170 @@ public class SimulacaoController {
                     )
             }
     )
-    private SimulacaoResponse buscaSimulacao(@Valid @RequestBody SimulacaoRequest request) {
-        return service.simula(request);
+    private ResponseEntity<Object> consultaSimulacao(
+            @Valid @ParameterObject SimulacaoRequest request,
+            @Parameter(description = "COMPLETO (padrão) ou RESUMO") @RequestParam(defaultValue = "COMPLETO") ModoResposta modo,
+            @Parameter(description = "quantidade de parcelas a pular; não pode ser usado com modo=RESUMO") @RequestParam(required = false) Integer offset,
+            @Parameter(description = "quantidade máxima de parcelas por tabela; não pode ser usado com modo=RESUMO") @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) throws JsonProcessingException {
+        validaModo(modo, offset, limit);
+        var gzip = aceitaGzip(acceptEncoding);
+        var etag = etag(request, modo, offset, limit, gzip);
+        if (nonNull(etag) && naoModificado(ifNoneMatch, etag))
+            return ResponseEntity.status(NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.maxAge(cacheHttpMaxAge).cachePublic())
+                    .varyBy(ACCEPT_ENCODING)
+                    .build();
+
+        var resposta = simula(request, modo, offset, limit);
+        if (isNull(etag) || !etag.equals(etag(request, modo, offset, limit, gzip)))
+            return resposta;
+
+        var corpo = resposta.getBody() instanceof byte[] bytes ? bytes : objectMapper.writeValueAsBytes(resposta.getBody());
+        var cabecalhos = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(cacheHttpMaxAge).cachePublic())
+                .varyBy(ACCEPT_ENCODING);
+        if (!gzip)
+            return cabecalhos.body(corpo);
+
+        return cabecalhos
+                .header(CONTENT_ENCODING, "gzip")
+                .body(CompressaoUtil.gzip(corpo, nivelGzip));
+    }
+
+    private ResponseEntity<Object> simula(SimulacaoRequest request, ModoResposta modo, Integer offset, Integer limit) {
+        if (modo == RESUMO)
+            return ResponseEntity.ok(service.simulaResumo(request));
+
+        if (nonNull(offset) || nonNull(limit))
+            return ResponseEntity.ok(service.simulaPagina(request, offset, limit));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(service.simulaSerializada(request));
+    }
+
+    private static void validaModo(ModoResposta modo, Integer offset, Integer limit) {
+        if (modo == RESUMO && (nonNull(offset) || nonNull(limit)))
+            throw new RegraNegocioException(PAGINACAO_EM_RESUMO, "offset e limit não podem ser usados com modo=RESUMO");
+    }
+
+    private String etag(SimulacaoRequest request, ModoResposta modo, Integer offset, Integer limit, boolean gzip) {
+        var impressaoDigital = catalogoService.impressaoDigital();
+        if (!cacheHttpHabilitado || isNull(impressaoDigital))
+            return null;
+
+        var variante = modo == RESUMO ? "R"
+                : nonNull(offset) || nonNull(limit) ? "P" + Objects.toString(offset, "") + "." + Objects.toString(limit, "")
+                : "C";
+        return "\"%s-%s-%s-%s%s\"".formatted(impressaoDigital, request.getValorDesejado().toPlainString(), request.getPrazo(),
+                variante, gzip ? "-gzip" : "");
+    }
+
+    private static boolean naoModificado(String ifNoneMatch, String etag) {
+        if (isNull(ifNoneMatch))
+            return false;
+
+        for (var candidato : ifNoneMatch.split(",")) {
+            var valor = candidato.trim();
+            if (valor.startsWith("W/"))
+                valor = valor.substring(2);
+            if (valor.equals("*") || valor.equals(etag))
+                return true;
+        }
+        return false;
+    }
+
+    @PostMapping("/reativa")
+    @Operation(
+            summary = "Simulação reativa",
+            description = "Mesma simulação do endpoint principal em um pipeline não bloqueante, com SAC e PRICE calculados em paralelo. Simulações idênticas em andamento são calculadas uma única vez e o número de simulações simultâneas é limitado",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Sucesso na simulação",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = SimulacaoResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Erro do sistema",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErroSistema.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "429",
+                            description = "Limite de simulações reativas simultâneas atingido",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErroSistema.class)
+                            )
+                    )
+            }
+    )
+    private Mono<SimulacaoResponse> buscaSimulacaoReativa(@Valid @RequestBody SimulacaoRequest request) {
+        return reativaService.simula(request);
+    }
+
+    @PostMapping("/fluxo")
+    @Operation(
+            summary = "Simulação em fluxo",
+            description = "Endpoint que envia as parcelas em NDJSON à medida que são calculadas: um registro CABECALHO, "
+                    + "os registros PARCELA de cada tabela e um registro TOTAL ao final de cada tabela",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Sucesso na simulação",
+                            content = @Content(mediaType = APPLICATION_NDJSON_VALUE)
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Erro do sistema",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErroSistema.class)
+                            )
+                    )
+            }
+    )
+    private ResponseEntity<StreamingResponseBody> buscaSimulacaoEmFluxo(@Valid @RequestBody SimulacaoRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(service.simulaEmFluxo(request));
+    }
+
+    @PostMapping("/lote")
+    @Operation(
+            summary = "Simulação em lote",
+            description = "Endpoint para fazer várias simulações em uma única chamada, com resultado ou erro por item",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Lote processado",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = SimulacaoLoteItem.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Lote vazio ou acima do tamanho máximo",
+                            content = @Content(
+                                    mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErroSistema.class)
+                            )
+                    )
+            }
+    )
+    private List<SimulacaoLoteItem> buscaSimulacaoLote(@RequestBody List<SimulacaoRequest> requests) {
+        return service.simulaLote(requests);
     }
 }
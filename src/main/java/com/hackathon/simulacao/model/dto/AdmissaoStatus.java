@@ -0,0 +1,20 @@
+package com.hackathon.simulacao.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissaoStatus {
+    @Schema(description = "limite das simulações individuais")
+    private LimiteAdmissaoStatus simulacao;
+
+    @Schema(description = "limite próprio de /lote e /fluxo")
+    private LimiteAdmissaoStatus loteFluxo;
+
+    @Schema(description = "chaves de API com balde de tokens ativo")
+    private Long chavesAtivas;
+}
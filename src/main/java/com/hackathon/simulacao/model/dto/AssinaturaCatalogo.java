@@ -0,0 +1,19 @@
+package com.hackathon.simulacao.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssinaturaCatalogo {
+    private Long quantidade;
+    private BigDecimal taxas;
+    private Long prazosMinimos;
+    private Long prazosMaximos;
+    private BigDecimal valoresMinimos;
+    private BigDecimal valoresMaximos;
+}
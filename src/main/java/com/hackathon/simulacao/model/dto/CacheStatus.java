@@ -0,0 +1,29 @@
+package com.hackathon.simulacao.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatus {
+    @Schema(description = "indica se o cache de simulações está ativo")
+    private Boolean habilitado;
+
+    @Schema(description = "simulações armazenadas")
+    private Long tamanho;
+
+    @Schema(description = "consultas atendidas pelo cache")
+    private Long acertos;
+
+    @Schema(description = "consultas que precisaram calcular a simulação")
+    private Long falhas;
+
+    @Schema(description = "simulações removidas por tamanho ou expiração")
+    private Long despejos;
+
+    @Schema(description = "proporção de acertos")
+    private Double taxaAcerto;
+}
@@ -0,0 +1,29 @@
+package com.hackathon.simulacao.model.dto;
+
+import com.hackathon.simulacao.enumerable.ModoCatalogo;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogoStatus {
+    @Schema(description = "origem das consultas de produto")
+    private ModoCatalogo modo;
+
+    @Schema(description = "versão do catálogo em memória")
+    private Long versao;
+
+    @Schema(description = "impressão digital do conteúdo do catálogo, igual em todas as instâncias com os mesmos produtos")
+    private String impressaoDigital;
+
+    @Schema(description = "quantidade de produtos carregados")
+    private Integer quantidadeProdutos;
+
+    @Schema(description = "momento da última troca do catálogo")
+    private LocalDateTime atualizadoEm;
+}
@@ -0,0 +1,32 @@
+package com.hackathon.simulacao.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportacaoStatus {
+    @Schema(description = "impressão digital da versão do catálogo de produtos usada na exportação")
+    private String versaoCatalogo;
+
+    @Schema(description = "simulações lidas da entrada")
+    private Long simulacoes;
+
+    @Schema(description = "simulações rejeitadas por validação ou regra de negócio")
+    private Long rejeitadas;
+
+    @Schema(description = "linhas gravadas na saída, sem o cabeçalho")
+    private Long linhas;
+
+    @Schema(description = "duração da exportação, em segundos")
+    private Double segundos;
+
+    @Schema(description = "simulações processadas por segundo")
+    private Double simulacoesPorSegundo;
+
+    @Schema(description = "linhas gravadas por segundo")
+    private Double linhasPorSegundo;
+}
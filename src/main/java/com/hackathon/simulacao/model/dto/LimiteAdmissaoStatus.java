@@ -0,0 +1,26 @@
+package com.hackathon.simulacao.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LimiteAdmissaoStatus {
+    @Schema(description = "limite de requisições simultâneas calculado pelo gradiente de latência")
+    private Integer limite;
+
+    @Schema(description = "requisições em andamento")
+    private Integer emAndamento;
+
+    @Schema(description = "requisições aguardando vaga")
+    private Integer fila;
+
+    @Schema(description = "latência média da última janela, em milissegundos")
+    private Double latenciaRecenteMs;
+
+    @Schema(description = "latência de referência: acompanha as quedas depressa e as subidas devagar, em milissegundos")
+    private Double latenciaReferenciaMs;
+}
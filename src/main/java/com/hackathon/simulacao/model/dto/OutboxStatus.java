@@ -0,0 +1,41 @@
+package com.hackathon.simulacao.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatus {
+    @Schema(description = "segmentos do log ainda não totalmente enviados")
+    private Long segmentos;
+
+    @Schema(description = "segmento em retransmissão")
+    private Long segmentoLeitura;
+
+    @Schema(description = "segmento em gravação")
+    private Long segmentoEscrita;
+
+    @Schema(description = "eventos aguardando a próxima gravação em grupo")
+    private Integer aguardandoGravacao;
+
+    @Schema(description = "eventos gravados no log")
+    private Long gravados;
+
+    @Schema(description = "gravações em grupo sincronizadas em disco")
+    private Long gruposGravados;
+
+    @Schema(description = "eventos enviados ao destino")
+    private Long enviados;
+
+    @Schema(description = "tentativas de envio com falha")
+    private Long falhas;
+
+    @Schema(description = "registros corrompidos ignorados na retransmissão e copiados para a quarentena")
+    private Long corrompidos;
+
+    @Schema(description = "eventos recusados em definitivo pelo destino e copiados para a quarentena")
+    private Long recusados;
+}
@@ -0,0 +1,33 @@
+package com.hackathon.simulacao.model.dto;
+
+import com.hackathon.simulacao.enumerable.EstrategiaContencao;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicadorStatus {
+    @Schema(description = "estratégia aplicada quando a fila está cheia")
+    private EstrategiaContencao estrategia;
+
+    @Schema(description = "eventos avulsos e lotes de publicaTodos aguardando envio")
+    private Integer tamanhoFila;
+
+    @Schema(description = "capacidade da fila em memória, em eventos avulsos e lotes")
+    private Integer capacidadeFila;
+
+    @Schema(description = "eventos enviados ao destino")
+    private Long publicados;
+
+    @Schema(description = "eventos descartados")
+    private Long descartados;
+
+    @Schema(description = "eventos gravados em disco para reenvio")
+    private Long gravadosEmDisco;
+
+    @Schema(description = "lotes com falha de envio")
+    private Long falhas;
+}
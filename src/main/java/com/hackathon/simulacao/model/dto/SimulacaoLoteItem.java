@@ -0,0 +1,24 @@
+package com.hackathon.simulacao.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(NON_NULL)
+public class SimulacaoLoteItem {
+    @Schema(description = "posição da simulação no lote enviado")
+    private Integer indice;
+
+    @Schema(description = "resultado da simulação, quando bem sucedida")
+    private SimulacaoResponse simulacao;
+
+    @Schema(description = "erros da simulação, quando rejeitada")
+    private ErroSistema erro;
+}
@@ -1,5 +1,6 @@
 package com.hackathon.simulacao.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,8 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,6 +26,10 @@ public class SimulacaoResponse {
     @Schema(description = "taxa de juros do produto")
     private BigDecimal taxaJuros;
 
+    @JsonInclude(NON_NULL)
+    @Schema(description = "impressão digital da versão do catálogo de produtos usada na simulação")
+    private String versaoCatalogo;
+
     @Schema(description = "resultado das simulações de empréstimos")
     private List<SimulacaoResultado> resultadoSimulacao;
 }
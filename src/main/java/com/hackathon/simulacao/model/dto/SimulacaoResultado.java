@@ -1,5 +1,6 @@
 package com.hackathon.simulacao.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static java.math.BigDecimal.ZERO;
 
 @Data
@@ -23,6 +25,10 @@ public class SimulacaoResultado {
     @Schema(description = "valor total das parcelas a serem pagas")
     private BigDecimal valorTotalParcelas;
 
+    @Schema(description = "quantidade total de parcelas, informada quando a resposta é paginada")
+    @JsonInclude(NON_NULL)
+    private Integer quantidadeParcelas;
+
     @Schema(description = "valores das parcelas")
     private List<SimulacaoParcela> parcelas;
 }
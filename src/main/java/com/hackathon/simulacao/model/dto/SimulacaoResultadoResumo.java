@@ -0,0 +1,38 @@
+package com.hackathon.simulacao.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(NON_NULL)
+public class SimulacaoResultadoResumo {
+    @Schema(description = "tipo da simulação")
+    private TipoTabelaCorrecaoMonetaria tipo;
+
+    @Schema(description = "valor total das parcelas a serem pagas")
+    private BigDecimal valorTotalParcelas;
+
+    @Schema(description = "quantidade de parcelas")
+    private Integer quantidadeParcelas;
+
+    @Schema(description = "valor fixo da prestação, somente na tabela PRICE")
+    private BigDecimal valorPrestacaoFixa;
+
+    @Schema(description = "primeira parcela")
+    private SimulacaoParcela primeiraParcela;
+
+    @Schema(description = "última parcela")
+    private SimulacaoParcela ultimaParcela;
+}
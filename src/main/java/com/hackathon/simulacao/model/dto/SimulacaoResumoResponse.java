@@ -0,0 +1,35 @@
+package com.hackathon.simulacao.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulacaoResumoResponse {
+    @Schema(description = "código do produto")
+    private Long codigoProduto;
+
+    @Schema(description = "descrição do produto")
+    private String descricaoProduto;
+
+    @Schema(description = "taxa de juros do produto")
+    private BigDecimal taxaJuros;
+
+    @JsonInclude(NON_NULL)
+    @Schema(description = "impressão digital da versão do catálogo de produtos usada na simulação")
+    private String versaoCatalogo;
+
+    @Schema(description = "resumo das simulações de empréstimos")
+    private List<SimulacaoResultadoResumo> resultadoSimulacao;
+}
@@ -0,0 +1,31 @@
+package com.hackathon.simulacao.model.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class BaldeTokens {
+    private final long intervalo;
+    private final long tolerancia;
+    private final AtomicLong chegadaTeorica;
+
+    BaldeTokens(double taxaPorSegundo, int rajada, long agora) {
+        this.intervalo = Math.max(1, (long) (1e9 / taxaPorSegundo));
+        this.tolerancia = intervalo * Math.max(0, rajada - 1);
+        this.chegadaTeorica = new AtomicLong(agora);
+    }
+
+    long consome(long agora) {
+        while (true) {
+            var atual = chegadaTeorica.get();
+            var base = Math.max(atual, agora);
+            var espera = base - tolerancia - agora;
+            if (espera > 0)
+                return espera;
+            if (chegadaTeorica.compareAndSet(atual, base + intervalo))
+                return 0;
+        }
+    }
+
+    void devolve() {
+        chegadaTeorica.addAndGet(-intervalo);
+    }
+}
@@ -0,0 +1,163 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResultado;
+import com.hackathon.simulacao.model.dto.SimulacaoResultadoResumo;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal.buscaDefault;
+import static com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal.calculaValorAmortizacaoSAC;
+import static com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal.calculaValorPrestacaoPRICE;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.HALF_UP;
+import static java.math.RoundingMode.UNNECESSARY;
+
+@Service
+public class CalculoParcialService {
+    private final MotorAmortizacaoBigDecimal referencia = new MotorAmortizacaoBigDecimal();
+
+    public SimulacaoResultadoResumo resumo(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request) {
+        if (!request.prazoEMaiorQueZero()) {
+            var padrao = buscaDefault(request, tipo).build().getParcelas().get(0);
+            return SimulacaoResultadoResumo.builder()
+                    .tipo(tipo)
+                    .quantidadeParcelas(1)
+                    .primeiraParcela(padrao)
+                    .ultimaParcela(padrao)
+                    .build();
+        }
+
+        var prazo = request.getPrazo();
+        var resumo = SimulacaoResultadoResumo.builder()
+                .tipo(tipo)
+                .quantidadeParcelas(prazo)
+                .valorTotalParcelas(valorTotal(tipo, produto, request));
+
+        if (tipo == SAC) {
+            var amortizacao = calculaValorAmortizacaoSAC(request);
+            return resumo
+                    .primeiraParcela(parcelaSAC(produto, request, amortizacao, 1))
+                    .ultimaParcela(parcelaSAC(produto, request, amortizacao, prazo))
+                    .build();
+        }
+
+        var parcelas = new ArrayList<SimulacaoParcela>(2);
+        percorreIntervalo(tipo, produto, request, 0, 1, parcelas::add);
+        if (prazo > 1)
+            percorreIntervalo(tipo, produto, request, prazo - 1, prazo, parcelas::add);
+        return resumo
+                .valorPrestacaoFixa(calculaValorPrestacaoPRICE(request, produto).setScale(2, HALF_UP))
+                .primeiraParcela(parcelas.get(0))
+                .ultimaParcela(parcelas.get(parcelas.size() - 1))
+                .build();
+    }
+
+    public SimulacaoResultado pagina(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request, int offset, int limit) {
+        if (!request.prazoEMaiorQueZero())
+            return buscaDefault(request, tipo).quantidadeParcelas(1).build();
+
+        var prazo = request.getPrazo();
+        var ate = (int) Math.min(prazo, (long) offset + limit);
+        var parcelas = new ArrayList<SimulacaoParcela>(Math.max(ate - offset, 0));
+        if (tipo == SAC) {
+            var amortizacao = calculaValorAmortizacaoSAC(request);
+            for (int numero = offset + 1; numero <= ate; numero++)
+                parcelas.add(parcelaSAC(produto, request, amortizacao, numero));
+        } else if (ate > offset) {
+            percorreIntervalo(tipo, produto, request, offset, ate, parcelas::add);
+        }
+
+        return SimulacaoResultado.builder()
+                .tipo(tipo)
+                .valorTotalParcelas(valorTotal(tipo, produto, request))
+                .quantidadeParcelas(prazo)
+                .parcelas(Collections.unmodifiableList(parcelas))
+                .build();
+    }
+
+    private BigDecimal valorTotal(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request) {
+        var prazo = BigInteger.valueOf(request.getPrazo());
+        if (tipo != SAC)
+            return calculaValorPrestacaoPRICE(request, produto).setScale(2, HALF_UP)
+                    .multiply(new BigDecimal(prazo));
+
+        var taxaJuros = produto.getTaxaJuros().scale() < 0
+                ? produto.getTaxaJuros().setScale(0, UNNECESSARY)
+                : produto.getTaxaJuros();
+        var taxa = taxaJuros.unscaledValue();
+        var divisor = BigInteger.TEN.pow(taxaJuros.scale());
+        var valor = request.getValorDesejado().setScale(2, UNNECESSARY).unscaledValue();
+        var amortizacao = calculaValorAmortizacaoSAC(request).unscaledValue();
+
+        var saldoFinal = valor.subtract(prazo.multiply(amortizacao));
+        var juros = somaPiso(prazo, divisor, amortizacao.multiply(taxa),
+                saldoFinal.multiply(taxa).add(divisor).subtract(BigInteger.ONE));
+        return new BigDecimal(prazo.multiply(amortizacao).add(juros), 2);
+    }
+
+    private static SimulacaoParcela parcelaSAC(Produto produto, SimulacaoRequest request, BigDecimal amortizacao, int numero) {
+        var saldoDevedor = request.getValorDesejado().subtract(amortizacao.multiply(BigDecimal.valueOf(numero)));
+        var juros = saldoDevedor.multiply(produto.getTaxaJuros()).setScale(2, CEILING);
+        return new SimulacaoParcela(numero, amortizacao, juros, amortizacao.add(juros).setScale(2, CEILING));
+    }
+
+    private void percorreIntervalo(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request,
+                                   int aPartirDe, int ate, Consumer<SimulacaoParcela> consumidor) {
+        var parametros = ParametrosCentavos.de(tipo, produto, request);
+        if (parametros != null && parametros.cabeEmLong(ate)) {
+            parametros.percorre(aPartirDe, ate, new MotorAmortizacaoPontoFixo.ConversorParcela(consumidor));
+            return;
+        }
+
+        referencia.percorre(tipo, produto, request, parcela -> {
+            if (parcela.getNumero() > aPartirDe && parcela.getNumero() <= ate)
+                consumidor.accept(parcela);
+        });
+    }
+
+    private static BigInteger somaPiso(BigInteger n, BigInteger m, BigInteger a, BigInteger b) {
+        var soma = BigInteger.ZERO;
+        var triangular = n.multiply(n.subtract(BigInteger.ONE)).shiftRight(1);
+        if (a.signum() < 0) {
+            var a2 = a.mod(m);
+            soma = soma.subtract(triangular.multiply(a2.subtract(a).divide(m)));
+            a = a2;
+        }
+        if (b.signum() < 0) {
+            var b2 = b.mod(m);
+            soma = soma.subtract(n.multiply(b2.subtract(b).divide(m)));
+            b = b2;
+        }
+
+        while (true) {
+            if (a.compareTo(m) >= 0) {
+                soma = soma.add(n.multiply(n.subtract(BigInteger.ONE)).shiftRight(1).multiply(a.divide(m)));
+                a = a.mod(m);
+            }
+            if (b.compareTo(m) >= 0) {
+                soma = soma.add(n.multiply(b.divide(m)));
+                b = b.mod(m);
+            }
+
+            var yMaximo = a.multiply(n).add(b);
+            if (yMaximo.compareTo(m) < 0)
+                return soma;
+
+            n = yMaximo.divide(m);
+            b = yMaximo.mod(m);
+            var troca = m;
+            m = a;
+            a = troca;
+        }
+    }
+}
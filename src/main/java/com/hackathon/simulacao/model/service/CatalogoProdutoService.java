@@ -0,0 +1,160 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.ModoCatalogo;
+import com.hackathon.simulacao.model.CatalogoAtualizadoEvento;
+import com.hackathon.simulacao.model.CatalogoProduto;
+import com.hackathon.simulacao.model.ConsultaProduto;
+import com.hackathon.simulacao.model.FatoresPrice;
+import com.hackathon.simulacao.model.LimitesSimulacao;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.CatalogoStatus;
+import com.hackathon.simulacao.model.dto.MinimoMaximo;
+import com.hackathon.simulacao.repository.ProdutoRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hackathon.simulacao.enumerable.ModoCatalogo.BANCO;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogoProdutoService implements ConsultaProduto {
+    @Value("${catalogo.modo:MEMORIA}")
+    private ModoCatalogo modo;
+
+    @Value("${simulacao.price.prazo-maximo-fatores:600}")
+    private int prazoMaximoFatoresPrice;
+
+    @Value("${catalogo.sincronizacao.habilitado:false}")
+    private boolean sincronizacaoHabilitada;
+
+    private final ProdutoRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<CatalogoProduto> catalogo = new AtomicReference<>();
+    private final AtomicReference<LimitesSimulacao> limitesBanco = new AtomicReference<>();
+
+    @PostConstruct
+    public void inicializa() {
+        atualiza();
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalogo.intervalo-atualizacao-ms:300000}",
+            fixedDelayString = "${catalogo.intervalo-atualizacao-ms:300000}"
+    )
+    public void atualizacaoAgendada() {
+        if (modo != BANCO && sincronizacaoHabilitada)
+            return;
+
+        try {
+            atualiza();
+        } catch (RuntimeException e) {
+            log.error("falha ao atualizar o catálogo de produtos, mantendo a versão {}", versao(), e);
+        }
+    }
+
+    public CatalogoStatus atualiza() {
+        if (modo == BANCO) {
+            limitesBanco.set(new CatalogoProduto(0, repository.findAll()).getLimites());
+            return status();
+        }
+
+        ativa(carrega());
+        return status();
+    }
+
+    public List<Produto> carrega() {
+        var produtos = repository.findAll();
+        produtos.forEach(produto -> produto.setFatoresPrice(FatoresPrice.de(produto, prazoMaximoFatoresPrice)));
+        return produtos;
+    }
+
+    public boolean ativa(List<Produto> produtos) {
+        var atual = catalogo.get();
+        if (atual != null && atual.getProdutos().equals(produtos))
+            return false;
+
+        var novo = new CatalogoProduto(atual == null ? 1 : atual.getVersao() + 1, produtos);
+        novo.getProdutos().forEach(produto -> produto.setVersaoCatalogo(novo.getImpressaoDigital()));
+        if (!catalogo.compareAndSet(atual, novo))
+            return false;
+
+        log.info("catálogo de produtos atualizado para a versão {} ({}) com {} produtos", novo.getVersao(),
+                novo.getImpressaoDigital(), produtos.size());
+        eventPublisher.publishEvent(new CatalogoAtualizadoEvento(novo));
+        return true;
+    }
+
+    public CatalogoStatus status() {
+        var atual = catalogo.get();
+        if (modo == BANCO || atual == null)
+            return new CatalogoStatus(modo, null, null, null, null);
+
+        return new CatalogoStatus(modo, atual.getVersao(), atual.getImpressaoDigital(), atual.getProdutos().size(), atual.getAtualizadoEm());
+    }
+
+    public CatalogoProduto fotografia() {
+        if (modo == BANCO)
+            return new CatalogoProduto(0, repository.findAll());
+
+        return catalogo.get();
+    }
+
+    public ModoCatalogo getModo() {
+        return modo;
+    }
+
+    public String impressaoDigital() {
+        if (modo == BANCO)
+            return null;
+
+        return catalogo.get().getImpressaoDigital();
+    }
+
+    public LimitesSimulacao limites() {
+        if (modo == BANCO)
+            return limitesBanco.get();
+
+        return catalogo.get().getLimites();
+    }
+
+    @Override
+    public MinimoMaximo buscaExtremos() {
+        if (modo == BANCO)
+            return repository.buscaExtremos();
+
+        return catalogo.get().buscaExtremos();
+    }
+
+    @Override
+    public Optional<Produto> buscaPorValoresMinimoEMaximo(BigDecimal valor) {
+        if (modo == BANCO)
+            return repository.buscaPorValoresMinimoEMaximo(valor);
+
+        return catalogo.get().buscaPorValoresMinimoEMaximo(valor);
+    }
+
+    @Override
+    public Optional<Produto> buscaSemValorMaximo() {
+        if (modo == BANCO)
+            return repository.buscaSemValorMaximo();
+
+        return catalogo.get().buscaSemValorMaximo();
+    }
+
+    private Long versao() {
+        var atual = catalogo.get();
+        return atual == null ? null : atual.getVersao();
+    }
+}
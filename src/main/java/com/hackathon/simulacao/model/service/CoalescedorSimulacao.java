@@ -0,0 +1,96 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class CoalescedorSimulacao {
+    private final boolean habilitado;
+    private final MetricasSimulacao metricas;
+    private final ConcurrentHashMap<SimulacaoRequest, CompletableFuture<SimulacaoResponse>> emAndamento = new ConcurrentHashMap<>();
+
+    public CoalescedorSimulacao(@Value("${simulacao.coalescencia.habilitado:true}") boolean habilitado,
+                                MetricasSimulacao metricas) {
+        this.habilitado = habilitado;
+        this.metricas = metricas;
+        metricas.monitoraEmAndamento(emAndamento);
+    }
+
+    public SimulacaoResponse executa(SimulacaoRequest request, Supplier<SimulacaoResponse> calculo) {
+        if (!habilitado)
+            return calculo.get();
+
+        var chave = new SimulacaoRequest(request.getValorDesejado(), request.getPrazo());
+        var proprio = new CompletableFuture<SimulacaoResponse>();
+        var existente = emAndamento.putIfAbsent(chave, proprio);
+        if (existente != null) {
+            metricas.registraCoalescencia(true);
+            return aguarda(existente);
+        }
+
+        metricas.registraCoalescencia(false);
+        SimulacaoResponse resultado;
+        try {
+            resultado = calculo.get();
+        } catch (RuntimeException | Error e) {
+            emAndamento.remove(chave, proprio);
+            proprio.completeExceptionally(e);
+            throw e;
+        }
+        emAndamento.remove(chave, proprio);
+        proprio.complete(resultado);
+        return resultado;
+    }
+
+    public Mono<SimulacaoResponse> executaReativo(SimulacaoRequest request, Supplier<Mono<SimulacaoResponse>> calculo) {
+        if (!habilitado)
+            return Mono.defer(calculo);
+
+        return Mono.defer(() -> {
+            var chave = new SimulacaoRequest(request.getValorDesejado(), request.getPrazo());
+            var proprio = new CompletableFuture<SimulacaoResponse>();
+            var existente = emAndamento.putIfAbsent(chave, proprio);
+            if (existente != null) {
+                metricas.registraCoalescencia(true);
+                return Mono.fromFuture(existente.copy());
+            }
+
+            metricas.registraCoalescencia(false);
+            Mono.defer(calculo).subscribe(
+                    resultado -> {
+                        emAndamento.remove(chave, proprio);
+                        proprio.complete(resultado);
+                    },
+                    erro -> {
+                        emAndamento.remove(chave, proprio);
+                        proprio.completeExceptionally(erro);
+                    },
+                    () -> {
+                        emAndamento.remove(chave, proprio);
+                        proprio.completeExceptionally(new IllegalStateException("Simulação concluída sem resultado"));
+                    });
+            return Mono.fromFuture(proprio.copy());
+        });
+    }
+
+    private static SimulacaoResponse aguarda(CompletableFuture<SimulacaoResponse> emAndamento) {
+        try {
+            return emAndamento.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa)
+                throw causa;
+            if (e.getCause() instanceof Error erro)
+                throw erro;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.hackathon.simulacao.model.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon.simulacao.enumerable.ClasseAdmissao;
+import com.hackathon.simulacao.enumerable.MotivoDescarte;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.AdmissaoStatus;
+import com.hackathon.simulacao.model.dto.LimiteAdmissaoStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hackathon.simulacao.enumerable.ClasseAdmissao.LOTE_FLUXO;
+import static com.hackathon.simulacao.enumerable.ClasseAdmissao.SIMULACAO;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.CONCORRENCIA;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.ESPERA_ESGOTADA;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.TAXA;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@Component
+@ConditionalOnProperty(name = "simulacao.admissao.habilitado", havingValue = "true")
+public class ControleAdmissao {
+    private static final long RETRY_AFTER_DESCARTE = SECONDS.toNanos(1);
+
+    private final MetricasSimulacao metricas;
+    private final Cache<String, BaldeTokens> baldes;
+    private final double taxaPorChave;
+    private final int rajadaPorChave;
+    private final long esperaMaxima;
+    private final Map<ClasseAdmissao, Limitador> limitadores = new EnumMap<>(ClasseAdmissao.class);
+
+    public record Admissao(MotivoDescarte motivo, long retryAfter, long inicio, ClasseAdmissao classe) {
+        public boolean aceita() {
+            return motivo == null;
+        }
+    }
+
+    public ControleAdmissao(MetricasSimulacao metricas,
+                            @Value("${simulacao.admissao.taxa-por-chave:2000}") double taxaPorChave,
+                            @Value("${simulacao.admissao.rajada-por-chave:4000}") int rajadaPorChave,
+                            @Value("${simulacao.admissao.expiracao-chave:PT10M}") Duration expiracaoChave,
+                            @Value("${simulacao.admissao.limite-inicial:20}") int limiteInicial,
+                            @Value("${simulacao.admissao.limite-minimo:4}") int limiteMinimo,
+                            @Value("${simulacao.admissao.limite-maximo:400}") int limiteMaximo,
+                            @Value("${simulacao.admissao.tolerancia:1.5}") double tolerancia,
+                            @Value("${simulacao.admissao.suavizacao:0.2}") double suavizacao,
+                            @Value("${simulacao.admissao.janela:PT0.1S}") Duration janela,
+                            @Value("${simulacao.admissao.fila-maxima:16}") int filaMaxima,
+                            @Value("${simulacao.admissao.espera-maxima:PT0.01S}") Duration esperaMaxima,
+                            @Value("${simulacao.admissao.lote-fluxo.limite-inicial:4}") int limiteInicialLoteFluxo,
+                            @Value("${simulacao.admissao.lote-fluxo.limite-minimo:1}") int limiteMinimoLoteFluxo,
+                            @Value("${simulacao.admissao.lote-fluxo.limite-maximo:40}") int limiteMaximoLoteFluxo,
+                            @Value("${simulacao.admissao.lote-fluxo.fila-maxima:4}") int filaMaximaLoteFluxo) {
+        this.metricas = metricas;
+        this.taxaPorChave = taxaPorChave;
+        this.rajadaPorChave = rajadaPorChave;
+        this.esperaMaxima = esperaMaxima.toNanos();
+        this.baldes = Caffeine.newBuilder()
+                .expireAfterAccess(expiracaoChave)
+                .maximumSize(100_000)
+                .build();
+        limitadores.put(SIMULACAO, new Limitador(SIMULACAO, filaMaxima,
+                new LimiteAdaptativo(limiteInicial, limiteMinimo, limiteMaximo, tolerancia, suavizacao, janela.toNanos(), 10)));
+        limitadores.put(LOTE_FLUXO, new Limitador(LOTE_FLUXO, filaMaximaLoteFluxo,
+                new LimiteAdaptativo(limiteInicialLoteFluxo, limiteMinimoLoteFluxo, limiteMaximoLoteFluxo, tolerancia, suavizacao,
+                        janela.toNanos(), 10)));
+    }
+
+    public Admissao admite(String chave) {
+        return admite(chave, SIMULACAO);
+    }
+
+    public Admissao admite(String chave, ClasseAdmissao classe) {
+        var agora = System.nanoTime();
+        var balde = baldes.get(chave, k -> new BaldeTokens(taxaPorChave, rajadaPorChave, agora));
+        var espera = balde.consome(agora);
+        if (espera > 0) {
+            metricas.registraDescarte(TAXA);
+            return new Admissao(TAXA, espera, 0, classe);
+        }
+
+        var limitador = limitadores.get(classe);
+        if (limitador.limite.tentaAdquirir()) {
+            metricas.registraAdmissao();
+            return new Admissao(null, 0, agora, classe);
+        }
+
+        var descarte = limitador.aguardaVaga(agora);
+        if (descarte != null) {
+            balde.devolve();
+            metricas.registraDescarte(descarte);
+            return new Admissao(descarte, RETRY_AFTER_DESCARTE, 0, classe);
+        }
+
+        metricas.registraAdmissao();
+        return new Admissao(null, 0, System.nanoTime(), classe);
+    }
+
+    public void libera(Admissao admissao) {
+        limitadores.get(admissao.classe()).libera(admissao.inicio());
+    }
+
+    public AdmissaoStatus status() {
+        return new AdmissaoStatus(limitadores.get(SIMULACAO).status(), limitadores.get(LOTE_FLUXO).status(), baldes.estimatedSize());
+    }
+
+    private final class Limitador {
+        private final LimiteAdaptativo limite;
+        private final int filaMaxima;
+        private final AtomicInteger fila = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Thread> aguardando = new ConcurrentLinkedQueue<>();
+
+        Limitador(ClasseAdmissao classe, int filaMaxima, LimiteAdaptativo limite) {
+            this.limite = limite;
+            this.filaMaxima = filaMaxima;
+            metricas.monitoraAdmissao(classe, limite::getLimite, limite::getEmAndamento, fila::get);
+        }
+
+        void libera(long inicio) {
+            var agora = System.nanoTime();
+            limite.libera(agora - inicio, agora);
+            var proximo = aguardando.peek();
+            if (proximo != null)
+                LockSupport.unpark(proximo);
+        }
+
+        LimiteAdmissaoStatus status() {
+            return new LimiteAdmissaoStatus(limite.getLimite(), limite.getEmAndamento(), fila.get(),
+                    limite.getRttCurto() / 1e6, limite.getRttReferencia() / 1e6);
+        }
+
+        MotivoDescarte aguardaVaga(long inicio) {
+            if (filaMaxima <= 0 || fila.incrementAndGet() > filaMaxima) {
+                if (filaMaxima > 0)
+                    fila.decrementAndGet();
+                return CONCORRENCIA;
+            }
+
+            metricas.registraEnfileirada();
+            var thread = Thread.currentThread();
+            var prazo = inicio + esperaMaxima;
+            aguardando.add(thread);
+            try {
+                while (true) {
+                    if (limite.tentaAdquirir())
+                        return null;
+
+                    var restante = prazo - System.nanoTime();
+                    if (restante <= 0)
+                        return ESPERA_ESGOTADA;
+                    LockSupport.parkNanos(this, restante);
+                }
+            } finally {
+                aguardando.remove(thread);
+                fila.decrementAndGet();
+                metricas.registraEsperaAdmissao(inicio);
+            }
+        }
+    }
+}
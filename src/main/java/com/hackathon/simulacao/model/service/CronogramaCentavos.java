@@ -0,0 +1,28 @@
+package com.hackathon.simulacao.model.service;
+
+import lombok.Getter;
+
+@Getter
+public class CronogramaCentavos {
+    private final long[] amortizacoes;
+    private final long[] juros;
+    private final long[] prestacoes;
+    private long totalPrestacoes;
+
+    public CronogramaCentavos(int prazo) {
+        this.amortizacoes = new long[prazo];
+        this.juros = new long[prazo];
+        this.prestacoes = new long[prazo];
+    }
+
+    void registra(int indice, long amortizacao, long jurosParcela, long prestacao) {
+        amortizacoes[indice] = amortizacao;
+        juros[indice] = jurosParcela;
+        prestacoes[indice] = prestacao;
+        totalPrestacoes += prestacao;
+    }
+
+    public int getPrazo() {
+        return prestacoes.length;
+    }
+}
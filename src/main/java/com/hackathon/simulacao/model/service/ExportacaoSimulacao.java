@@ -0,0 +1,306 @@
+package com.hackathon.simulacao.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hackathon.simulacao.enumerable.FormatoExportacao;
+import com.hackathon.simulacao.enumerable.ModoResposta;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.exception.RegraNegocioException;
+import com.hackathon.simulacao.model.CatalogoProduto;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.ExportacaoStatus;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.hackathon.simulacao.enumerable.FormatoExportacao.CSV;
+import static com.hackathon.simulacao.enumerable.ModoResposta.COMPLETO;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportacaoSimulacao {
+    private static final String CABECALHO_RESUMO = "indice,valorDesejado,prazo,codigoProduto,taxaJuros,"
+            + "valorTotalSAC,primeiraPrestacaoSAC,ultimaPrestacaoSAC,valorTotalPRICE,valorPrestacaoPRICE,erro\n";
+    private static final String CABECALHO_COMPLETO = "indice,valorDesejado,prazo,codigoProduto,taxaJuros,"
+            + "tipo,numero,valorAmortizacao,valorJuros,valorPrestacao,erro\n";
+
+    private final SimulacaoService simulacaoService;
+    private final CatalogoProdutoService catalogoService;
+    private final MotorAmortizacao motor;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${simulacao.exportacao.paralelismo:0}")
+    private int paralelismo;
+
+    @Value("${simulacao.exportacao.tamanho-bloco:4096}")
+    private int tamanhoBloco;
+
+    @Value("${simulacao.exportacao.tamanho-bloco-completo:64}")
+    private int tamanhoBlocoCompleto;
+
+    @Value("${simulacao.exportacao.intervalo-progresso:PT5S}")
+    private Duration intervaloProgresso;
+
+    public ExportacaoStatus exporta(BufferedReader entrada, Writer saida, FormatoExportacao formato, ModoResposta modo) throws IOException {
+        var threads = paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors();
+        var bloco = Math.max(1, modo == COMPLETO ? tamanhoBlocoCompleto : tamanhoBloco);
+        var execucao = new Execucao(catalogoService.fotografia(), formato, modo, Math.max(1, bloco / (threads * 8)));
+        var pool = new ForkJoinPool(threads);
+        var inicio = System.nanoTime();
+        var proximoProgresso = inicio + intervaloProgresso.toNanos();
+        long simulacoes = 0;
+        try {
+            if (formato == CSV)
+                descartaCabecalho(entrada);
+            saida.write(modo == COMPLETO ? CABECALHO_COMPLETO : CABECALHO_RESUMO);
+
+            Trecho pendente = null;
+            List<String> linhas;
+            while (!(linhas = leBloco(entrada, bloco)).isEmpty()) {
+                var trecho = Trecho.raiz(execucao, linhas, simulacoes);
+                pool.execute(trecho);
+                simulacoes += linhas.size();
+                if (nonNull(pendente))
+                    pendente.grava(saida);
+                pendente = trecho;
+
+                var agora = System.nanoTime();
+                if (agora >= proximoProgresso) {
+                    proximoProgresso = agora + intervaloProgresso.toNanos();
+                    log.info("exportação em andamento: {} simulações lidas, {} linhas gravadas, {} simulações/s",
+                            simulacoes, execucao.linhas.sum(), Math.round(simulacoes / ((agora - inicio) / 1e9)));
+                }
+            }
+            if (nonNull(pendente))
+                pendente.grava(saida);
+            saida.flush();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        var segundos = (System.nanoTime() - inicio) / 1e9;
+        var linhas = execucao.linhas.sum();
+        return new ExportacaoStatus(execucao.consulta.getImpressaoDigital(), simulacoes, execucao.rejeitadas.sum(), linhas,
+                segundos, simulacoes / segundos, linhas / segundos);
+    }
+
+    private static void descartaCabecalho(BufferedReader entrada) throws IOException {
+        entrada.mark(8192);
+        var primeira = entrada.readLine();
+        if (isNull(primeira))
+            return;
+
+        var conteudo = primeira.strip();
+        if (conteudo.isEmpty() || Character.isDigit(conteudo.charAt(0)) || "-+.".indexOf(conteudo.charAt(0)) >= 0)
+            entrada.reset();
+    }
+
+    private static List<String> leBloco(BufferedReader entrada, int tamanho) throws IOException {
+        var linhas = new ArrayList<String>(tamanho);
+        String linha;
+        while (linhas.size() < tamanho && nonNull(linha = entrada.readLine())) {
+            if (!linha.isBlank())
+                linhas.add(linha);
+        }
+        return linhas;
+    }
+
+    private final class Execucao {
+        private final CatalogoProduto consulta;
+        private final FormatoExportacao formato;
+        private final ModoResposta modo;
+        private final int folha;
+        private final ObjectReader leitorJson = objectMapper.readerFor(SimulacaoRequest.class);
+        private final LongAdder rejeitadas = new LongAdder();
+        private final LongAdder linhas = new LongAdder();
+
+        private Execucao(CatalogoProduto consulta, FormatoExportacao formato, ModoResposta modo, int folha) {
+            this.consulta = consulta;
+            this.formato = formato;
+            this.modo = modo;
+            this.folha = folha;
+        }
+
+        private void processa(String linha, long indice, StringBuilder saida) {
+            SimulacaoRequest request;
+            try {
+                request = le(linha);
+            } catch (IOException | IllegalArgumentException e) {
+                rejeita(indice, null, "Linha inválida: " + linha.strip(), saida);
+                return;
+            }
+
+            var violacoes = validator.validate(request);
+            if (!violacoes.isEmpty()) {
+                rejeita(indice, request, violacoes.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining("; ")), saida);
+                return;
+            }
+
+            var rejeicao = simulacaoService.rejeicaoAntecipada(request, consulta.getLimites());
+            if (nonNull(rejeicao)) {
+                rejeita(indice, request, rejeicao.getErro(), saida);
+                return;
+            }
+
+            Produto produto;
+            try {
+                produto = simulacaoService.resolveProduto(request, consulta);
+            } catch (RegraNegocioException e) {
+                rejeita(indice, request, e.getErro(), saida);
+                return;
+            }
+
+            var prefixo = new StringBuilder(64).append(indice).append(',')
+                    .append(request.getValorDesejado().toPlainString()).append(',')
+                    .append(request.getPrazo()).append(',')
+                    .append(produto.getCodigo()).append(',')
+                    .append(produto.getTaxaJuros().toPlainString()).append(',');
+            if (modo == COMPLETO) {
+                escreveParcelas(SAC, produto, request, prefixo, saida);
+                escreveParcelas(PRICE, produto, request, prefixo, saida);
+                return;
+            }
+
+            var sac = new Extremos();
+            var totalSAC = motor.percorre(SAC, produto, request, sac);
+            var price = new Extremos();
+            var totalPRICE = motor.percorre(PRICE, produto, request, price);
+            saida.append(prefixo)
+                    .append(total(totalSAC, sac).toPlainString()).append(',')
+                    .append(sac.primeira.getValorPrestacao().toPlainString()).append(',')
+                    .append(sac.ultima.getValorPrestacao().toPlainString()).append(',')
+                    .append(total(totalPRICE, price).toPlainString()).append(',')
+                    .append(price.primeira.getValorPrestacao().toPlainString()).append(",\n");
+            linhas.increment();
+        }
+
+        private SimulacaoRequest le(String linha) throws IOException {
+            if (formato != CSV) {
+                SimulacaoRequest request = leitorJson.readValue(linha);
+                if (isNull(request))
+                    throw new IllegalArgumentException(linha);
+                return request;
+            }
+
+            var campos = linha.split(",", -1);
+            if (campos.length != 2)
+                throw new IllegalArgumentException(linha);
+            return new SimulacaoRequest(new BigDecimal(campos[0].strip()), Integer.valueOf(campos[1].strip()));
+        }
+
+        private void escreveParcelas(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request,
+                                     CharSequence prefixo, StringBuilder saida) {
+            var quantidade = new int[1];
+            motor.percorre(tipo, produto, request, parcela -> {
+                saida.append(prefixo).append(tipo.name()).append(',')
+                        .append(parcela.getNumero()).append(',')
+                        .append(parcela.getValorAmortizacao().toPlainString()).append(',')
+                        .append(parcela.getValorJuros().toPlainString()).append(',')
+                        .append(parcela.getValorPrestacao().toPlainString()).append(",\n");
+                quantidade[0]++;
+            });
+            linhas.add(quantidade[0]);
+        }
+
+        private void rejeita(long indice, SimulacaoRequest request, String erro, StringBuilder saida) {
+            saida.append(indice).append(',');
+            if (nonNull(request)) {
+                if (nonNull(request.getValorDesejado()))
+                    saida.append(request.getValorDesejado().toPlainString());
+                saida.append(',');
+                if (nonNull(request.getPrazo()))
+                    saida.append(request.getPrazo());
+            } else {
+                saida.append(',');
+            }
+            saida.append(",,,,,,,,").append('"').append(erro.replace("\"", "\"\"")).append("\"\n");
+            rejeitadas.increment();
+            linhas.increment();
+        }
+    }
+
+    private static BigDecimal total(BigDecimal total, Extremos extremos) {
+        return nonNull(total) ? total : extremos.ultima.getValorPrestacao();
+    }
+
+    private static final class Extremos implements Consumer<SimulacaoParcela> {
+        private SimulacaoParcela primeira;
+        private SimulacaoParcela ultima;
+
+        @Override
+        public void accept(SimulacaoParcela parcela) {
+            if (isNull(primeira))
+                primeira = parcela;
+            ultima = parcela;
+        }
+    }
+
+    private static final class Trecho extends RecursiveAction {
+        private final Execucao execucao;
+        private final List<String> linhas;
+        private final long primeiroIndice;
+        private final StringBuilder[] partes;
+        private final int inicio;
+        private final int fim;
+
+        private Trecho(Execucao execucao, List<String> linhas, long primeiroIndice, StringBuilder[] partes, int inicio, int fim) {
+            this.execucao = execucao;
+            this.linhas = linhas;
+            this.primeiroIndice = primeiroIndice;
+            this.partes = partes;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        static Trecho raiz(Execucao execucao, List<String> linhas, long primeiroIndice) {
+            var partes = new StringBuilder[(linhas.size() + execucao.folha - 1) / execucao.folha];
+            return new Trecho(execucao, linhas, primeiroIndice, partes, 0, linhas.size());
+        }
+
+        @Override
+        protected void compute() {
+            var folha = execucao.folha;
+            if (fim - inicio <= folha) {
+                var parte = new StringBuilder((fim - inicio) * (execucao.modo == COMPLETO ? 8192 : 128));
+                for (int i = inicio; i < fim; i++)
+                    execucao.processa(linhas.get(i), primeiroIndice + i, parte);
+                partes[inicio / folha] = parte;
+                return;
+            }
+
+            var meio = inicio + Math.max(1, (fim - inicio) / folha / 2) * folha;
+            invokeAll(new Trecho(execucao, linhas, primeiroIndice, partes, inicio, meio),
+                    new Trecho(execucao, linhas, primeiroIndice, partes, meio, fim));
+        }
+
+        void grava(Writer saida) throws IOException {
+            join();
+            for (var parte : partes)
+                saida.append(parte);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.hackathon.simulacao.model.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LimiteAdaptativo {
+    private static final double PESO_QUEDA_REFERENCIA = 0.1;
+    private static final double PESO_SUBIDA_REFERENCIA = 0.01;
+    private static final double GRADIENTE_MINIMO = 0.5;
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final double tolerancia;
+    private final double suavizacao;
+    private final long janela;
+    private final int amostrasMinimas;
+
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final AtomicInteger picoEmAndamento = new AtomicInteger();
+    private final LongAdder somaRtt = new LongAdder();
+    private final LongAdder amostras = new LongAdder();
+    private final AtomicLong fimJanela;
+
+    private volatile int limite;
+    private volatile double rttCurto;
+    private volatile double rttReferencia;
+    private volatile double estimativa;
+
+    LimiteAdaptativo(int limiteInicial, int limiteMinimo, int limiteMaximo, double tolerancia, double suavizacao,
+                     long janela, int amostrasMinimas) {
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.tolerancia = tolerancia;
+        this.suavizacao = suavizacao;
+        this.janela = janela;
+        this.amostrasMinimas = amostrasMinimas;
+        this.estimativa = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+        this.limite = (int) estimativa;
+        this.fimJanela = new AtomicLong(System.nanoTime() + janela);
+    }
+
+    boolean tentaAdquirir() {
+        int atual;
+        do {
+            atual = emAndamento.get();
+            if (atual >= limite)
+                return false;
+        } while (!emAndamento.compareAndSet(atual, atual + 1));
+
+        if (atual + 1 > picoEmAndamento.get())
+            picoEmAndamento.accumulateAndGet(atual + 1, Math::max);
+        return true;
+    }
+
+    void libera(long rtt, long agora) {
+        emAndamento.decrementAndGet();
+        somaRtt.add(rtt);
+        amostras.increment();
+
+        var fim = fimJanela.get();
+        if (agora >= fim && fimJanela.compareAndSet(fim, agora + janela))
+            fechaJanela();
+    }
+
+    private void fechaJanela() {
+        var quantidade = amostras.sumThenReset();
+        var soma = somaRtt.sumThenReset();
+        if (quantidade < amostrasMinimas) {
+            amostras.add(quantidade);
+            somaRtt.add(soma);
+            return;
+        }
+
+        var pico = picoEmAndamento.getAndSet(emAndamento.get());
+        var curto = (double) soma / quantidade;
+        var referencia = rttReferencia;
+        if (referencia == 0)
+            referencia = curto;
+        else if (curto < referencia)
+            referencia += (curto - referencia) * PESO_QUEDA_REFERENCIA;
+        else if (curto <= referencia * tolerancia)
+            referencia += (curto - referencia) * PESO_SUBIDA_REFERENCIA;
+        rttCurto = curto;
+        rttReferencia = referencia;
+
+        if (pico < estimativa / 2)
+            return;
+
+        var gradiente = Math.max(GRADIENTE_MINIMO, Math.min(1.0, tolerancia * referencia / curto));
+        var alvo = estimativa * gradiente + Math.sqrt(estimativa);
+        estimativa = Math.max(limiteMinimo, Math.min(limiteMaximo, estimativa * (1 - suavizacao) + alvo * suavizacao));
+        limite = (int) estimativa;
+    }
+
+    int getLimite() {
+        return limite;
+    }
+
+    int getEmAndamento() {
+        return emAndamento.get();
+    }
+
+    double getRttCurto() {
+        return rttCurto;
+    }
+
+    double getRttReferencia() {
+        return rttReferencia;
+    }
+}
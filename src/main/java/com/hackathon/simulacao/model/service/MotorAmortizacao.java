@@ -0,0 +1,18 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResultado;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+public interface MotorAmortizacao {
+    SimulacaoResultado calculaSAC(Produto produto, SimulacaoRequest request);
+
+    SimulacaoResultado calculaPRICE(Produto produto, SimulacaoRequest request);
+
+    BigDecimal percorre(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request, Consumer<SimulacaoParcela> consumidor);
+}
@@ -0,0 +1,156 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResultado;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.HALF_UP;
+import static java.util.List.of;
+
+@Component
+@ConditionalOnProperty(name = "simulacao.motor", havingValue = "BIG_DECIMAL", matchIfMissing = true)
+public class MotorAmortizacaoBigDecimal implements MotorAmortizacao {
+
+    @Override
+    public SimulacaoResultado calculaPRICE(Produto produto, SimulacaoRequest request) {
+        var resposta = buscaDefault(request, PRICE);
+        if (request.prazoEMaiorQueZero()){
+            var parcelas = new ArrayList<SimulacaoParcela>(request.getPrazo());
+            var total = percorrePRICE(request, produto, parcelas::add);
+            resposta
+                    .parcelas(Collections.unmodifiableList(parcelas))
+                    .valorTotalParcelas(total);
+        }
+
+        return resposta.build();
+    }
+
+    public List<SimulacaoParcela> geraPrestacoesPRICE(SimulacaoRequest request, Produto produto) {
+        var parcelas = new ArrayList<SimulacaoParcela>(request.getPrazo());
+        percorrePRICE(request, produto, parcelas::add);
+        return Collections.unmodifiableList(parcelas);
+    }
+
+    private BigDecimal percorrePRICE(SimulacaoRequest request, Produto produto, Consumer<SimulacaoParcela> consumidor) {
+        var valorPrestacao = calculaValorPrestacaoPRICE(request, produto).setScale(2, HALF_UP);
+        var saldoDevedor = request.getValorDesejado();
+        var total = ZERO;
+        for (int parcela = 1; parcela <= request.getPrazo(); parcela++) {
+            var jurosParcela = saldoDevedor.multiply(produto.getTaxaJuros()).setScale(2, CEILING);
+            var valorAmortizacao = valorPrestacao.subtract(jurosParcela);
+            saldoDevedor = saldoDevedor.subtract(valorAmortizacao);
+            var prestacao = valorAmortizacao.add(jurosParcela);
+            total = total.add(prestacao);
+            consumidor.accept(SimulacaoParcela.builder()
+                    .numero(parcela)
+                    .valorJuros(jurosParcela)
+                    .valorAmortizacao(valorAmortizacao)
+                    .valorPrestacao(prestacao)
+                    .build());
+        }
+        return total;
+    }
+
+    static SimulacaoResultado.SimulacaoResultadoBuilder buscaDefault(SimulacaoRequest request, TipoTabelaCorrecaoMonetaria tipo) {
+        return SimulacaoResultado.builder()
+                .tipo(tipo)
+                .parcelas(of(
+                                SimulacaoParcela.builder()
+                                        .valorPrestacao(request.getValorDesejado())
+                                        .numero(1)
+                                        .valorJuros(ZERO)
+                                        .valorAmortizacao(request.getValorDesejado())
+                                        .build()
+                        )
+                );
+    }
+
+    public static BigDecimal calculaValorPrestacaoPRICE(SimulacaoRequest request, Produto produto) {
+        var fatores = produto.getFatoresPrice();
+        var coeficiente = fatores == null ? null : fatores.coeficiente(produto.getTaxaJuros(), request.getPrazo());
+        if (coeficiente == null)
+            return calculaValorPrestacaoPRICE(request, produto.getTaxaJuros());
+
+        return request.getValorDesejado().multiply(coeficiente);
+    }
+
+    public static BigDecimal calculaValorPrestacaoPRICE(SimulacaoRequest request, BigDecimal taxaJuros) {
+        var jurosExponencial = taxaJuros.add(ONE).pow(request.getPrazo()).setScale(6, HALF_UP);
+        var primeiraParte = jurosExponencial.multiply(taxaJuros).setScale(6, HALF_UP);
+        var segundaParte = jurosExponencial.subtract(ONE);
+        return request.getValorDesejado()
+                .multiply(primeiraParte.divide(segundaParte, new MathContext(6)));
+    }
+
+    static BigDecimal calculaValorAmortizacaoSAC(SimulacaoRequest request) {
+        return request.getValorDesejado()
+                .divide(BigDecimal.valueOf(request.getPrazo()), new MathContext(10)).setScale(2, CEILING);
+    }
+
+    @Override
+    public SimulacaoResultado calculaSAC(Produto produto, SimulacaoRequest request) {
+        var resposta = buscaDefault(request, SAC);
+        if (request.prazoEMaiorQueZero()){
+            var parcelas = new ArrayList<SimulacaoParcela>(request.getPrazo());
+            var total = percorreSAC(request, produto, parcelas::add);
+            resposta
+                    .parcelas(Collections.unmodifiableList(parcelas))
+                    .valorTotalParcelas(total);
+        }
+
+        return resposta.build();
+    }
+
+    public List<SimulacaoParcela> geraPrestacoesSAC(SimulacaoRequest request, Produto produto) {
+        var parcelas = new ArrayList<SimulacaoParcela>(request.getPrazo());
+        percorreSAC(request, produto, parcelas::add);
+        return Collections.unmodifiableList(parcelas);
+    }
+
+    private BigDecimal percorreSAC(SimulacaoRequest request, Produto produto, Consumer<SimulacaoParcela> consumidor) {
+        var saldoDevedor = request.getValorDesejado();
+        var valorAmortizacao = calculaValorAmortizacaoSAC(request);
+        var total = ZERO;
+        for (int parcela = 1; parcela <= request.getPrazo(); parcela++) {
+            saldoDevedor = saldoDevedor.subtract(valorAmortizacao);
+            var jurosParcela = saldoDevedor.multiply(produto.getTaxaJuros()).setScale(2, CEILING);
+            var prestacao = valorAmortizacao.add(jurosParcela).setScale(2, CEILING);
+            total = total.add(prestacao);
+            consumidor.accept(SimulacaoParcela.builder()
+                    .numero(parcela)
+                    .valorJuros(jurosParcela)
+                    .valorAmortizacao(valorAmortizacao)
+                    .valorPrestacao(prestacao)
+                    .build());
+        }
+        return total;
+    }
+
+    @Override
+    public BigDecimal percorre(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request, Consumer<SimulacaoParcela> consumidor) {
+        if (!request.prazoEMaiorQueZero()) {
+            buscaDefault(request, tipo).build().getParcelas().forEach(consumidor);
+            return null;
+        }
+
+        return tipo == SAC
+                ? percorreSAC(request, produto, consumidor)
+                : percorrePRICE(request, produto, consumidor);
+    }
+}
@@ -0,0 +1,124 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResultado;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal.buscaDefault;
+
+@Component
+@ConditionalOnProperty(name = "simulacao.motor", havingValue = "PONTO_FIXO")
+public class MotorAmortizacaoPontoFixo implements MotorAmortizacao {
+    private final MotorAmortizacaoBigDecimal referencia = new MotorAmortizacaoBigDecimal();
+
+    @Override
+    public SimulacaoResultado calculaSAC(Produto produto, SimulacaoRequest request) {
+        return calcula(SAC, produto, request);
+    }
+
+    @Override
+    public SimulacaoResultado calculaPRICE(Produto produto, SimulacaoRequest request) {
+        return calcula(PRICE, produto, request);
+    }
+
+    @Override
+    public BigDecimal percorre(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request, Consumer<SimulacaoParcela> consumidor) {
+        var parametros = request.prazoEMaiorQueZero() ? ParametrosCentavos.de(tipo, produto, request) : null;
+        if (parametros == null || !parametros.cabeEmLong(request.getPrazo()))
+            return referencia.percorre(tipo, produto, request, consumidor);
+
+        var conversor = new ConversorParcela(consumidor);
+        return BigDecimal.valueOf(parametros.percorre(request.getPrazo(), conversor), 2);
+    }
+
+    public CronogramaCentavos cronogramaSAC(Produto produto, SimulacaoRequest request) {
+        return cronograma(SAC, produto, request);
+    }
+
+    public CronogramaCentavos cronogramaPRICE(Produto produto, SimulacaoRequest request) {
+        return cronograma(PRICE, produto, request);
+    }
+
+    private SimulacaoResultado calcula(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request) {
+        if (!request.prazoEMaiorQueZero())
+            return buscaDefault(request, tipo).build();
+
+        var cronograma = cronograma(tipo, produto, request);
+        if (cronograma == null)
+            return tipo == SAC ? referencia.calculaSAC(produto, request) : referencia.calculaPRICE(produto, request);
+
+        return resultado(cronograma, buscaDefault(request, tipo));
+    }
+
+    private CronogramaCentavos cronograma(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request) {
+        var parametros = ParametrosCentavos.de(tipo, produto, request);
+        if (parametros == null)
+            return null;
+
+        var cronograma = new CronogramaCentavos(request.getPrazo());
+        try {
+            parametros.percorre(request.getPrazo(), (numero, amortizacao, juros, prestacao) ->
+                    cronograma.registra(numero - 1, amortizacao, juros, prestacao));
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return cronograma;
+    }
+
+    private static SimulacaoResultado resultado(CronogramaCentavos cronograma, SimulacaoResultado.SimulacaoResultadoBuilder resposta) {
+        var amortizacoes = cronograma.getAmortizacoes();
+        var juros = cronograma.getJuros();
+        var prestacoes = cronograma.getPrestacoes();
+        var parcelas = new ArrayList<SimulacaoParcela>(prestacoes.length);
+        BigDecimal ultimaAmortizacao = null;
+        BigDecimal ultimaPrestacao = null;
+        for (int i = 0; i < prestacoes.length; i++) {
+            if (ultimaAmortizacao == null || amortizacoes[i] != amortizacoes[i - 1])
+                ultimaAmortizacao = BigDecimal.valueOf(amortizacoes[i], 2);
+            if (ultimaPrestacao == null || prestacoes[i] != prestacoes[i - 1])
+                ultimaPrestacao = BigDecimal.valueOf(prestacoes[i], 2);
+            parcelas.add(new SimulacaoParcela(i + 1, ultimaAmortizacao, BigDecimal.valueOf(juros[i], 2), ultimaPrestacao));
+        }
+
+        return resposta
+                .parcelas(Collections.unmodifiableList(parcelas))
+                .valorTotalParcelas(BigDecimal.valueOf(cronograma.getTotalPrestacoes(), 2))
+                .build();
+    }
+
+    static final class ConversorParcela implements ParametrosCentavos.ReceptorCentavos {
+        private final Consumer<SimulacaoParcela> consumidor;
+        private long ultimaAmortizacaoCentavos = Long.MIN_VALUE;
+        private long ultimaPrestacaoCentavos = Long.MIN_VALUE;
+        private BigDecimal ultimaAmortizacao;
+        private BigDecimal ultimaPrestacao;
+
+        ConversorParcela(Consumer<SimulacaoParcela> consumidor) {
+            this.consumidor = consumidor;
+        }
+
+        @Override
+        public void recebe(int numero, long amortizacao, long juros, long prestacao) {
+            if (amortizacao != ultimaAmortizacaoCentavos) {
+                ultimaAmortizacaoCentavos = amortizacao;
+                ultimaAmortizacao = BigDecimal.valueOf(amortizacao, 2);
+            }
+            if (prestacao != ultimaPrestacaoCentavos) {
+                ultimaPrestacaoCentavos = prestacao;
+                ultimaPrestacao = BigDecimal.valueOf(prestacao, 2);
+            }
+            consumidor.accept(new SimulacaoParcela(numero, ultimaAmortizacao, BigDecimal.valueOf(juros, 2), ultimaPrestacao));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal.calculaValorAmortizacaoSAC;
+import static com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal.calculaValorPrestacaoPRICE;
+import static java.math.RoundingMode.HALF_UP;
+import static java.math.RoundingMode.UNNECESSARY;
+
+record ParametrosCentavos(TipoTabelaCorrecaoMonetaria tipo, long valor, long parcelaFixa, long taxa, long divisor) {
+    private static final int ESCALA_MAXIMA_TAXA = 18;
+    private static final long[] POTENCIAS_DE_DEZ = new long[ESCALA_MAXIMA_TAXA + 1];
+    private static final double LIMITE_SALDO = 0x1p62;
+
+    static {
+        POTENCIAS_DE_DEZ[0] = 1;
+        for (int i = 1; i <= ESCALA_MAXIMA_TAXA; i++)
+            POTENCIAS_DE_DEZ[i] = POTENCIAS_DE_DEZ[i - 1] * 10;
+    }
+
+    @FunctionalInterface
+    interface ReceptorCentavos {
+        void recebe(int numero, long amortizacao, long juros, long prestacao);
+    }
+
+    static ParametrosCentavos de(TipoTabelaCorrecaoMonetaria tipo, Produto produto, SimulacaoRequest request) {
+        try {
+            var taxaJuros = produto.getTaxaJuros().scale() < 0
+                    ? produto.getTaxaJuros().setScale(0, UNNECESSARY)
+                    : produto.getTaxaJuros();
+            if (taxaJuros.scale() > ESCALA_MAXIMA_TAXA)
+                return null;
+
+            var valor = request.getValorDesejado().setScale(2, UNNECESSARY).unscaledValue().longValueExact();
+            var parcelaFixa = tipo == SAC
+                    ? calculaValorAmortizacaoSAC(request).unscaledValue().longValueExact()
+                    : calculaValorPrestacaoPRICE(request, produto).setScale(2, HALF_UP).unscaledValue().longValueExact();
+            var taxa = taxaJuros.unscaledValue().longValueExact();
+
+            return new ParametrosCentavos(tipo, valor, parcelaFixa, taxa, POTENCIAS_DE_DEZ[taxaJuros.scale()]);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    boolean cabeEmLong(int prazo) {
+        var limiteSaldo = Math.abs((double) valor) + 2.0 * prazo * Math.pow(1 + Math.abs((double) taxa / divisor), prazo) + 2;
+        if (!(limiteSaldo < LIMITE_SALDO))
+            return false;
+
+        var saldoMaximo = (long) Math.ceil(limiteSaldo);
+        var taxaAbsoluta = Math.abs(taxa);
+        if (taxaAbsoluta < 0 || Math.multiplyHigh(saldoMaximo, taxaAbsoluta) != 0 || saldoMaximo * taxaAbsoluta < 0)
+            return false;
+
+        try {
+            var jurosMaximo = saldoMaximo * taxaAbsoluta / divisor + 1;
+            Math.multiplyExact(Math.addExact(Math.abs(parcelaFixa), jurosMaximo), (long) prazo + 1);
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    long percorre(int prazo, ReceptorCentavos receptor) {
+        return percorre(0, prazo, receptor);
+    }
+
+    long percorre(int aPartirDe, int ate, ReceptorCentavos receptor) {
+        var saldoDevedor = valor;
+        var total = 0L;
+        for (int numero = 1; numero <= ate; numero++) {
+            long juros;
+            long amortizacao;
+            if (tipo == SAC) {
+                amortizacao = parcelaFixa;
+                saldoDevedor -= amortizacao;
+                juros = jurosArredondadoParaCima(saldoDevedor);
+            } else {
+                juros = jurosArredondadoParaCima(saldoDevedor);
+                amortizacao = parcelaFixa - juros;
+                saldoDevedor -= amortizacao;
+            }
+            var prestacao = amortizacao + juros;
+            total += prestacao;
+            if (numero > aPartirDe)
+                receptor.recebe(numero, amortizacao, juros, prestacao);
+        }
+        return total;
+    }
+
+    long jurosArredondadoParaCima(long saldoDevedor) {
+        return -Math.floorDiv(Math.negateExact(Math.multiplyExact(saldoDevedor, taxa)), divisor);
+    }
+}
@@ -0,0 +1,76 @@
+package com.hackathon.simulacao.model.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hackathon.simulacao.model.CatalogoAtualizadoEvento;
+import com.hackathon.simulacao.model.ChaveSimulacao;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.CacheStatus;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class SimulacaoCache {
+    private final boolean habilitado;
+    private final Cache<ChaveSimulacao, SimulacaoResponse> cache;
+
+    public SimulacaoCache(@Value("${simulacao.cache.habilitado:true}") boolean habilitado,
+                          @Value("${simulacao.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                          @Value("${simulacao.cache.expiracao:PT10M}") Duration expiracao) {
+        this.habilitado = habilitado;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .recordStats()
+                .build();
+    }
+
+    public SimulacaoResponse busca(Produto produto, SimulacaoRequest request, Supplier<SimulacaoResponse> calculo) {
+        if (!habilitado)
+            return calculo.get();
+
+        return cache.get(chave(produto, request), k -> calculo.get());
+    }
+
+    public Optional<SimulacaoResponse> consulta(Produto produto, SimulacaoRequest request) {
+        if (!habilitado)
+            return Optional.empty();
+
+        return Optional.ofNullable(cache.getIfPresent(chave(produto, request)));
+    }
+
+    public void armazena(Produto produto, SimulacaoRequest request, SimulacaoResponse calculo) {
+        if (habilitado)
+            cache.put(chave(produto, request), calculo);
+    }
+
+    private static ChaveSimulacao chave(Produto produto, SimulacaoRequest request) {
+        return new ChaveSimulacao(produto.getCodigo(), produto.getTaxaJuros(), request.getValorDesejado(), request.getPrazo(),
+                produto.getVersaoCatalogo());
+    }
+
+    @EventListener
+    public void catalogoAtualizado(CatalogoAtualizadoEvento evento) {
+        invalida();
+        log.info("cache de simulações invalidado pela versão {} do catálogo", evento.getCatalogo().getVersao());
+    }
+
+    public void invalida() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatus status() {
+        var estatisticas = cache.stats();
+        return new CacheStatus(habilitado, cache.estimatedSize(), estatisticas.hitCount(), estatisticas.missCount(),
+                estatisticas.evictionCount(), estatisticas.hitRate());
+    }
+}
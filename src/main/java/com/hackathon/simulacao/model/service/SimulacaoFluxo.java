@@ -0,0 +1,103 @@
+package com.hackathon.simulacao.model.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.mensageria.CodificacaoIncremental;
+import com.hackathon.simulacao.mensageria.CodificadorEventos;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static java.util.Objects.nonNull;
+
+@RequiredArgsConstructor
+public class SimulacaoFluxo implements StreamingResponseBody {
+    private static final JsonFactory FABRICA = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final int PARCELAS_POR_DESCARGA = 100;
+
+    private final Produto produto;
+    private final SimulacaoRequest request;
+    private final MotorAmortizacao motor;
+    private final PublicadorEventos publicador;
+    private final CodificadorEventos codificador;
+
+    @Override
+    public void writeTo(OutputStream saida) throws IOException {
+        var evento = codificador.inicia(request, SimulacaoService.cabecalho(produto).build(), 2);
+        try (var linhas = FABRICA.createGenerator(saida)) {
+            linhas.setRootValueSeparator(new SerializedString("\n"));
+
+            linhas.writeStartObject();
+            linhas.writeStringField("registro", "CABECALHO");
+            escreveCabecalho(linhas);
+            linhas.writeEndObject();
+
+            escreveTabela(SAC, linhas, evento);
+            escreveTabela(PRICE, linhas, evento);
+
+            linhas.writeRaw('\n');
+        }
+        publicador.publica(evento.bytes());
+    }
+
+    private void escreveCabecalho(JsonGenerator gerador) throws IOException {
+        gerador.writeNumberField("codigoProduto", produto.getCodigo());
+        gerador.writeStringField("descricaoProduto", produto.getNome());
+        gerador.writeNumberField("taxaJuros", produto.getTaxaJuros());
+        if (nonNull(produto.getVersaoCatalogo()))
+            gerador.writeStringField("versaoCatalogo", produto.getVersaoCatalogo());
+    }
+
+    private void escreveTabela(TipoTabelaCorrecaoMonetaria tipo, JsonGenerator linhas, CodificacaoIncremental evento) throws IOException {
+        evento.iniciaTabela(tipo);
+
+        BigDecimal total;
+        try {
+            total = motor.percorre(tipo, produto, request, parcela -> {
+                try {
+                    linhas.writeStartObject();
+                    linhas.writeStringField("registro", "PARCELA");
+                    linhas.writeStringField("tipo", tipo.name());
+                    escreveParcela(linhas, parcela);
+                    linhas.writeEndObject();
+                    if (parcela.getNumero() % PARCELAS_POR_DESCARGA == 0)
+                        linhas.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                evento.parcela(parcela);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        evento.encerraTabela(total);
+
+        linhas.writeStartObject();
+        linhas.writeStringField("registro", "TOTAL");
+        linhas.writeStringField("tipo", tipo.name());
+        linhas.writeNumberField("valorTotalParcelas", total);
+        linhas.writeEndObject();
+        linhas.flush();
+    }
+
+    private static void escreveParcela(JsonGenerator gerador, SimulacaoParcela parcela) throws IOException {
+        gerador.writeNumberField("numero", parcela.getNumero());
+        gerador.writeNumberField("valorAmortizacao", parcela.getValorAmortizacao());
+        gerador.writeNumberField("valorJuros", parcela.getValorJuros());
+        gerador.writeNumberField("valorPrestacao", parcela.getValorPrestacao());
+    }
+}
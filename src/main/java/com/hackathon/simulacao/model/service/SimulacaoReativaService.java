@@ -0,0 +1,80 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.enumerable.ModoCatalogo;
+import com.hackathon.simulacao.exception.SobrecargaException;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hackathon.simulacao.enumerable.ModoCatalogo.BANCO;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.CONCORRENCIA;
+import static com.hackathon.simulacao.model.service.SimulacaoService.montaResposta;
+import static java.util.Objects.nonNull;
+
+@Service
+@RequiredArgsConstructor
+public class SimulacaoReativaService {
+    private static final SobrecargaException SOBRECARGA = new SobrecargaException("Serviço sobrecarregado, tente novamente em instantes", 1);
+
+    @Value("${catalogo.modo:MEMORIA}")
+    private ModoCatalogo modoCatalogo;
+
+    @Value("${simulacao.reativa.concorrencia-maxima:256}")
+    private int concorrenciaMaxima;
+
+    private final SimulacaoService simulacaoService;
+    private final CatalogoProdutoService catalogoService;
+    private final SimulacaoCache cache;
+    private final CoalescedorSimulacao coalescedor;
+    private final MetricasSimulacao metricas;
+
+    private final AtomicInteger emAndamento = new AtomicInteger();
+
+    public Mono<SimulacaoResponse> simula(SimulacaoRequest request) {
+        var rejeicao = simulacaoService.rejeicaoAntecipada(request);
+        if (nonNull(rejeicao))
+            return Mono.error(rejeicao);
+
+        return Mono.defer(() -> {
+            if (emAndamento.incrementAndGet() > concorrenciaMaxima) {
+                emAndamento.decrementAndGet();
+                metricas.registraDescarte(CONCORRENCIA);
+                return Mono.error(SOBRECARGA);
+            }
+
+            return coalescedor.executaReativo(request, () -> calcula(request))
+                    .flatMap(calculo -> Mono.fromRunnable(() -> simulacaoService.enviaParaFila(request, calculo))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .thenReturn(calculo))
+                    .doFinally(sinal -> emAndamento.decrementAndGet());
+        });
+    }
+
+    public int getEmAndamento() {
+        return emAndamento.get();
+    }
+
+    private Mono<SimulacaoResponse> calcula(SimulacaoRequest request) {
+        return Mono.fromCallable(() -> simulacaoService.resolveProduto(request, catalogoService))
+                .subscribeOn(agendadorConsulta())
+                .flatMap(produto -> Mono.justOrEmpty(cache.consulta(produto, request))
+                        .switchIfEmpty(Mono.zip(
+                                        Mono.fromCallable(() -> simulacaoService.calculaSAC(produto, request)).subscribeOn(Schedulers.parallel()),
+                                        Mono.fromCallable(() -> simulacaoService.calculaPRICE(produto, request)).subscribeOn(Schedulers.parallel())
+                                )
+                                .map(tabelas -> montaResposta(produto, tabelas.getT1(), tabelas.getT2()))
+                                .doOnNext(calculo -> cache.armazena(produto, request, calculo))));
+    }
+
+    private Scheduler agendadorConsulta() {
+        return modoCatalogo == BANCO ? Schedulers.boundedElastic() : Schedulers.immediate();
+    }
+}
@@ -1,202 +1,317 @@
 package com.hackathon.simulacao.model.service;
 
-import com.azure.identity.AzureAuthorityHosts;
-import com.azure.identity.DefaultAzureCredential;
-import com.azure.identity.DefaultAzureCredentialBuilder;
-import com.azure.messaging.eventhubs.EventData;
-import com.azure.messaging.eventhubs.EventHubClientBuilder;
-import com.azure.messaging.eventhubs.EventHubProducerClient;
-import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hackathon.simulacao.exception.RegraNegocioException;
+import com.hackathon.simulacao.mensageria.CodificadorEventos;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.CatalogoProduto;
+import com.hackathon.simulacao.model.ConsultaProduto;
+import com.hackathon.simulacao.model.LimitesSimulacao;
 import com.hackathon.simulacao.model.Produto;
-import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.ErroSistema;
+import com.hackathon.simulacao.model.dto.SimulacaoLoteItem;
 import com.hackathon.simulacao.model.dto.SimulacaoRequest;
 import com.hackathon.simulacao.model.dto.SimulacaoResponse;
 import com.hackathon.simulacao.model.dto.SimulacaoResultado;
-import com.hackathon.simulacao.repository.ProdutoRepository;
-import com.hackathon.simulacao.util.JsonUtil;
+import com.hackathon.simulacao.model.dto.SimulacaoResumoResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.IntStream;
 
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.BUSCA_EXTREMOS;
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.BUSCA_PRODUTO;
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.CALCULO_PRICE;
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.CALCULO_SAC;
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.SERIALIZACAO;
+import static com.hackathon.simulacao.enumerable.EtapaSimulacao.VALIDA_PRAZO;
+import static com.hackathon.simulacao.enumerable.FormatoEvento.JSON;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.LIMIT_INVALIDO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.LOTE_EXCEDIDO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.LOTE_VAZIO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.OFFSET_INVALIDO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PRAZO_INFERIOR;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PRAZO_SUPERIOR;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.PRODUTO_NAO_ENCONTRADO;
+import static com.hackathon.simulacao.enumerable.MotivoRejeicao.VALOR_INFERIOR_MINIMO;
 import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
 import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
-import static java.math.BigDecimal.ONE;
-import static java.math.BigDecimal.ZERO;
-import static java.math.RoundingMode.CEILING;
-import static java.math.RoundingMode.HALF_UP;
 import static java.util.List.of;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SimulacaoService {
-    @Value("${event-hub.namespace}")
-    private String namespace;
+    private final CatalogoProdutoService catalogoService;
+    private final PublicadorEventos publicador;
+    private final SimulacaoCache cache;
+    private final MotorAmortizacao motor;
+    @Qualifier("executorLote")
+    private final ExecutorService executorLote;
+    private final Validator validator;
+    private final CalculoParcialService calculoParcial;
+    private final MetricasSimulacao metricas;
+    private final CodificadorEventos codificador;
+    private final CoalescedorSimulacao coalescedor;
+    private final ObjectMapper objectMapper;
 
-    @Value("${event-hub.name}")
-    private String eventHubName;
+    @Value("${simulacao.lote.tamanho-maximo:100}")
+    private int tamanhoMaximoLote;
 
-    @Value("${event-hub.key-name}")
-    private String keyName;
+    @Value("${simulacao.paginacao.limite-maximo:120}")
+    private int limiteMaximoPagina;
 
-    @Value("${event-hub.key-value}")
-    private String keyValue;
-
-    private final ProdutoRepository repository;
+    @Value("${simulacao.rejeicao-antecipada.habilitado:true}")
+    private boolean rejeicaoAntecipadaHabilitada;
 
     public SimulacaoResponse simula(SimulacaoRequest request) {
-        var extremos = repository.buscaExtremos();
-        validaValorMinimo(request.getValorDesejado(), extremos.getMinimo());
-        var produto = buscaProduto(request.getValorDesejado(), extremos.getMaximo());
-        validaPrazo(produto, request.getPrazo());
-        var calculo = realizaCalculo(produto, request);
-        enviaParaFila(calculo);
+        rejeitaAntecipadamente(request);
+        var calculo = coalescedor.executa(request, () -> calcula(request, catalogoService));
+        enviaParaFila(request, calculo);
         return calculo;
     }
 
-    private void enviaParaFila(SimulacaoResponse calculo) {
-        var json = JsonUtil.ObjectToString(calculo);
-        var producer = client();
-        producer.send(List.of(new EventData(json)));
-        producer.close();
+    @SneakyThrows
+    public byte[] simulaSerializada(SimulacaoRequest request) {
+        rejeitaAntecipadamente(request);
+        var calculo = coalescedor.executa(request, () -> calcula(request, catalogoService));
+        if (codificador.formato() != JSON) {
+            enviaParaFila(request, calculo);
+            return objectMapper.writeValueAsBytes(calculo);
+        }
+
+        var evento = codifica(request, calculo);
+        publicador.publica(evento);
+        return evento;
     }
 
-    private SimulacaoResponse realizaCalculo(Produto produto, SimulacaoRequest request) {
+    public SimulacaoResumoResponse simulaResumo(SimulacaoRequest request) {
+        rejeitaAntecipadamente(request);
+        var produto = resolveProduto(request, catalogoService);
+        enviaParaFilaEmSegundoPlano(produto, request);
+        return SimulacaoResumoResponse.builder()
+                .codigoProduto(produto.getCodigo())
+                .descricaoProduto(produto.getNome())
+                .taxaJuros(produto.getTaxaJuros())
+                .versaoCatalogo(produto.getVersaoCatalogo())
+                .resultadoSimulacao(of(
+                        calculoParcial.resumo(SAC, produto, request),
+                        calculoParcial.resumo(PRICE, produto, request)
+                ))
+                .build();
+    }
+
+    public SimulacaoResponse simulaPagina(SimulacaoRequest request, Integer offset, Integer limit) {
+        var inicio = isNull(offset) ? 0 : offset;
+        var quantidade = isNull(limit) ? limiteMaximoPagina : limit;
+        if (inicio < 0)
+            throw new RegraNegocioException(OFFSET_INVALIDO, "O offset não pode ser negativo");
+
+        if (quantidade < 1 || quantidade > limiteMaximoPagina)
+            throw new RegraNegocioException(LIMIT_INVALIDO, "O limit deve estar entre 1 e %s parcelas".formatted(limiteMaximoPagina));
+
+        rejeitaAntecipadamente(request);
+        var produto = resolveProduto(request, catalogoService);
+        enviaParaFilaEmSegundoPlano(produto, request);
         return SimulacaoResponse.builder()
                 .codigoProduto(produto.getCodigo())
                 .descricaoProduto(produto.getNome())
                 .taxaJuros(produto.getTaxaJuros())
+                .versaoCatalogo(produto.getVersaoCatalogo())
                 .resultadoSimulacao(of(
-                        calculaSAC(produto, request),
-                        calculaPRICE(produto, request)
+                        calculoParcial.pagina(SAC, produto, request, inicio, quantidade),
+                        calculoParcial.pagina(PRICE, produto, request, inicio, quantidade)
                 ))
                 .build();
     }
 
-    private SimulacaoResultado calculaPRICE(Produto produto, SimulacaoRequest request) {
-        var resposta = buscaDefault(request, PRICE);
-        if (request.prazoEMaiorQueZero()){
-            var parcelas = geraPrestacoesPRICE(request, produto);
-            resposta
-                    .parcelas(parcelas)
-                    .valorTotalParcelas(parcelas.stream().map(SimulacaoParcela::getValorPrestacao).reduce(ZERO, BigDecimal::add));
-        }
+    public List<SimulacaoLoteItem> simulaLote(List<SimulacaoRequest> requests) {
+        if (requests.isEmpty())
+            throw new RegraNegocioException(LOTE_VAZIO, "O lote deve ter ao menos uma simulação");
+
+        if (requests.size() > tamanhoMaximoLote)
+            throw new RegraNegocioException(LOTE_EXCEDIDO, "O lote deve ter no máximo %s simulações".formatted(tamanhoMaximoLote));
 
-        return resposta.build();
-    }
-
-    private List<SimulacaoParcela> geraPrestacoesPRICE(SimulacaoRequest request, Produto produto) {
-        var valorPrestacao = calculaValorPrestacaoPRICE(request, produto.getTaxaJuros()).setScale(2, HALF_UP);
-        var saldoDevedor = new AtomicReference<>(request.getValorDesejado());
-        return IntStream.range(1, request.getPrazo() + 1)
-                .mapToObj(parcela -> {
-                    var jurosParcela = saldoDevedor.get().multiply(produto.getTaxaJuros()).setScale(2, CEILING);
-                    var valorAmortizacao = valorPrestacao.subtract(jurosParcela);
-                    saldoDevedor.set(saldoDevedor.get().subtract(valorAmortizacao));
-                    return SimulacaoParcela.builder()
-                            .numero(parcela)
-                            .valorJuros(jurosParcela)
-                            .valorAmortizacao(valorAmortizacao)
-                            .valorPrestacao(valorAmortizacao.add(jurosParcela))
-                            .build();
-                })
+        var consulta = catalogoService.fotografia();
+        var itens = IntStream.range(0, requests.size())
+                .mapToObj(indice -> CompletableFuture.supplyAsync(() -> simulaItem(indice, requests.get(indice), consulta), executorLote))
+                .toList()
+                .stream()
+                .map(CompletableFuture::join)
                 .toList();
+
+        var eventos = itens.stream()
+                .filter(item -> nonNull(item.getSimulacao()))
+                .map(item -> codifica(requests.get(item.getIndice()), item.getSimulacao()))
+                .toList();
+        publicador.publicaTodos(eventos);
+        return itens;
     }
 
-    private static SimulacaoResultado.SimulacaoResultadoBuilder buscaDefault(SimulacaoRequest request, TipoTabelaCorrecaoMonetaria tipo) {
-        return SimulacaoResultado.builder()
-                .tipo(tipo)
-                .parcelas(of(
-                                SimulacaoParcela.builder()
-                                        .valorPrestacao(request.getValorDesejado())
-                                        .numero(1)
-                                        .valorJuros(ZERO)
-                                        .valorAmortizacao(request.getValorDesejado())
-                                        .build()
-                        )
-                );
-    }
-
-    private BigDecimal calculaValorPrestacaoPRICE(SimulacaoRequest request, BigDecimal taxaJuros) {
-        var jurosExponencial = taxaJuros.add(ONE).pow(request.getPrazo()).setScale(6, HALF_UP);
-        var primeiraParte = jurosExponencial.multiply(taxaJuros).setScale(6, HALF_UP);
-        var segundaParte = jurosExponencial.subtract(ONE);
-        return request.getValorDesejado()
-                .multiply(primeiraParte.divide(segundaParte, new MathContext(6)));
-    }
-
-    private SimulacaoResultado calculaSAC(Produto produto, SimulacaoRequest request) {
-        var resposta = buscaDefault(request, SAC);
-        if (request.prazoEMaiorQueZero()){
-            var parcelas = geraPrestacoesSAC(request, produto);
-            resposta
-                    .parcelas(parcelas)
-                    .valorTotalParcelas(parcelas.stream().map(SimulacaoParcela::getValorPrestacao).reduce(ZERO, BigDecimal::add));
+    private SimulacaoLoteItem simulaItem(int indice, SimulacaoRequest request, CatalogoProduto consulta) {
+        if (isNull(request))
+            return new SimulacaoLoteItem(indice, null, new ErroSistema("A simulação deve ser informada"));
+
+        var violacoes = validator.validate(request);
+        if (!violacoes.isEmpty())
+            return new SimulacaoLoteItem(indice, null, new ErroSistema(violacoes.stream().map(ConstraintViolation::getMessage).toList()));
+
+        var rejeicao = rejeicaoAntecipada(request, consulta.getLimites());
+        if (nonNull(rejeicao)) {
+            metricas.registraRejeicao(rejeicao.getMotivo(), true);
+            return new SimulacaoLoteItem(indice, null, new ErroSistema(rejeicao.getErro()));
         }
 
-        return resposta.build();
+        try {
+            return new SimulacaoLoteItem(indice, calcula(request, consulta), null);
+        } catch (RegraNegocioException e) {
+            metricas.registraRejeicao(e.getMotivo(), e.isAntecipada());
+            return new SimulacaoLoteItem(indice, null, new ErroSistema(e.getErro()));
+        }
+    }
+
+    public StreamingResponseBody simulaEmFluxo(SimulacaoRequest request) {
+        rejeitaAntecipadamente(request);
+        var produto = resolveProduto(request, catalogoService);
+        return new SimulacaoFluxo(produto, request, motor, publicador, codificador);
+    }
+
+    private SimulacaoResponse calcula(SimulacaoRequest request, ConsultaProduto consulta) {
+        var produto = resolveProduto(request, consulta);
+        return cache.busca(produto, request, () -> realizaCalculo(produto, request));
     }
 
-    private List<SimulacaoParcela> geraPrestacoesSAC(SimulacaoRequest request, Produto produto) {
-        var saldoDevedor = new AtomicReference<>(request.getValorDesejado());
-        var valorAmortizacao = request.getValorDesejado()
-                .divide(BigDecimal.valueOf(request.getPrazo()), new MathContext(10)).setScale(2, CEILING);
-        return IntStream.range(1, request.getPrazo() + 1)
-                .mapToObj(parcela -> {
-                    saldoDevedor.set(saldoDevedor.get().subtract(valorAmortizacao));
-                    var jurosParcela = saldoDevedor.get().multiply(produto.getTaxaJuros()).setScale(2, CEILING);
-                    return SimulacaoParcela.builder()
-                            .numero(parcela)
-                            .valorJuros(jurosParcela)
-                            .valorAmortizacao(valorAmortizacao)
-                            .valorPrestacao(valorAmortizacao.add(jurosParcela).setScale(2, CEILING))
-                            .build();
-                }).toList();
+    RegraNegocioException rejeicaoAntecipada(SimulacaoRequest request) {
+        return rejeicaoAntecipada(request, catalogoService.limites());
+    }
+
+    RegraNegocioException rejeicaoAntecipada(SimulacaoRequest request, LimitesSimulacao limites) {
+        if (!rejeicaoAntecipadaHabilitada || isNull(limites))
+            return null;
+
+        return limites.rejeicao(request.getValorDesejado(), request.getPrazo());
+    }
+
+    private void rejeitaAntecipadamente(SimulacaoRequest request) {
+        var rejeicao = rejeicaoAntecipada(request);
+        if (nonNull(rejeicao))
+            throw rejeicao;
+    }
+
+    Produto resolveProduto(SimulacaoRequest request, ConsultaProduto consulta) {
+        var inicio = metricas.inicia();
+        var extremos = consulta.buscaExtremos();
+        metricas.registra(BUSCA_EXTREMOS, inicio);
+        validaValorMinimo(request.getValorDesejado(), extremos.getMinimo());
+
+        inicio = metricas.inicia();
+        var produto = buscaProduto(consulta, request.getValorDesejado(), extremos.getMaximo());
+        metricas.registra(BUSCA_PRODUTO, inicio);
+
+        inicio = metricas.inicia();
+        validaPrazo(produto, request.getPrazo());
+        metricas.registra(VALIDA_PRAZO, inicio);
+
+        metricas.registraSimulacao(produto.getCodigo(), request.getPrazo());
+        return produto;
+    }
+
+    private void enviaParaFilaEmSegundoPlano(Produto produto, SimulacaoRequest request) {
+        publicador.publicaEmSegundoPlano(() -> codificaPercorrendo(produto, request));
+    }
+
+    private byte[] codificaPercorrendo(Produto produto, SimulacaoRequest request) {
+        var inicio = metricas.inicia();
+        var evento = codificador.inicia(request, cabecalho(produto).build(), 2);
+        for (var tipo : of(SAC, PRICE)) {
+            evento.iniciaTabela(tipo);
+            evento.encerraTabela(motor.percorre(tipo, produto, request, evento::parcela));
+            metricas.registraTabela(tipo);
+        }
+        metricas.registra(SERIALIZACAO, inicio);
+        return evento.bytes();
+    }
+
+    void enviaParaFila(SimulacaoRequest request, SimulacaoResponse calculo) {
+        publicador.publica(codifica(request, calculo));
+    }
+
+    private byte[] codifica(SimulacaoRequest request, SimulacaoResponse calculo) {
+        var inicio = metricas.inicia();
+        var evento = codificador.codifica(request, calculo);
+        metricas.registra(SERIALIZACAO, inicio);
+        return evento;
+    }
+
+    private SimulacaoResponse realizaCalculo(Produto produto, SimulacaoRequest request) {
+        return montaResposta(produto, calculaSAC(produto, request), calculaPRICE(produto, request));
+    }
+
+    SimulacaoResultado calculaSAC(Produto produto, SimulacaoRequest request) {
+        var inicio = metricas.inicia();
+        var resultado = motor.calculaSAC(produto, request);
+        metricas.registra(CALCULO_SAC, inicio);
+        metricas.registraTabela(SAC);
+        return resultado;
+    }
+
+    SimulacaoResultado calculaPRICE(Produto produto, SimulacaoRequest request) {
+        var inicio = metricas.inicia();
+        var resultado = motor.calculaPRICE(produto, request);
+        metricas.registra(CALCULO_PRICE, inicio);
+        metricas.registraTabela(PRICE);
+        return resultado;
+    }
+
+    static SimulacaoResponse montaResposta(Produto produto, SimulacaoResultado sac, SimulacaoResultado price) {
+        return cabecalho(produto)
+                .resultadoSimulacao(of(sac, price))
+                .build();
+    }
+
+    static SimulacaoResponse.SimulacaoResponseBuilder cabecalho(Produto produto) {
+        return SimulacaoResponse.builder()
+                .codigoProduto(produto.getCodigo())
+                .descricaoProduto(produto.getNome())
+                .taxaJuros(produto.getTaxaJuros())
+                .versaoCatalogo(produto.getVersaoCatalogo());
     }
 
     private void validaPrazo(Produto produto, Integer prazo) {
         if (prazo < produto.getMinMeses())
-            throw new RegraNegocioException("Prazo inferior a %s parcelas para o valor desejado".formatted(produto.getMinMeses()));
+            throw new RegraNegocioException(PRAZO_INFERIOR, "Prazo inferior a %s parcelas para o valor desejado".formatted(produto.getMinMeses()));
 
         if (nonNull(produto.getMaxMeses()) && prazo > produto.getMaxMeses())
-            throw new RegraNegocioException("Prazo superior a %s parcelas para o valor desejado".formatted(produto.getMaxMeses()));
+            throw new RegraNegocioException(PRAZO_SUPERIOR, "Prazo superior a %s parcelas para o valor desejado".formatted(produto.getMaxMeses()));
     }
 
-    private Produto buscaProduto(BigDecimal valorDesejado, BigDecimal maximo) {
+    private Produto buscaProduto(ConsultaProduto consulta, BigDecimal valorDesejado, BigDecimal maximo) {
         if (valorDesejado.compareTo(maximo) == -1L)
-            return repository.buscaPorValoresMinimoEMaximo(valorDesejado)
-                    .orElseThrow(() -> new RegraNegocioException("Produto não encontrado"));
+            return consulta.buscaPorValoresMinimoEMaximo(valorDesejado)
+                    .orElseThrow(() -> new RegraNegocioException(PRODUTO_NAO_ENCONTRADO, "Produto não encontrado"));
 
-        return repository.buscaSemValorMaximo()
-                .orElseThrow(() -> new RegraNegocioException("Produto não encontrado"));
+        return consulta.buscaSemValorMaximo()
+                .orElseThrow(() -> new RegraNegocioException(PRODUTO_NAO_ENCONTRADO, "Produto não encontrado"));
     }
 
     private void validaValorMinimo(BigDecimal valorDesejado, BigDecimal minimo) {
         if (valorDesejado.compareTo(minimo) == -1L) {
             log.info("valor mínimo inválido");
-            throw new RegraNegocioException("valor inferior ao mínimo de R$ " + minimo);
+            throw new RegraNegocioException(VALOR_INFERIOR_MINIMO, "valor inferior ao mínimo de R$ " + minimo);
         }
     }
-
-    private EventHubProducerClient client() {
-        DefaultAzureCredential credential = new DefaultAzureCredentialBuilder()
-                .authorityHost(AzureAuthorityHosts.AZURE_PUBLIC_CLOUD)
-                .build();
-
-        var connection = "Endpoint=%s;SharedAccessKeyName=%s;SharedAccessKey=%s"
-                .formatted(namespace, keyName, keyValue);
-
-        return new EventHubClientBuilder()
-                .connectionString(connection, eventHubName)
-                .buildProducerClient();
-    }
 }
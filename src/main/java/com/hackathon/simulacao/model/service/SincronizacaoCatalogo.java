@@ -0,0 +1,158 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.mensageria.CanalCatalogo;
+import com.hackathon.simulacao.model.AvisoCatalogo;
+import com.hackathon.simulacao.model.CatalogoProduto;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.AssinaturaCatalogo;
+import com.hackathon.simulacao.model.dto.CatalogoStatus;
+import com.hackathon.simulacao.repository.ProdutoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hackathon.simulacao.enumerable.ModoCatalogo.BANCO;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalogo.sincronizacao.habilitado", havingValue = "true")
+public class SincronizacaoCatalogo {
+    @Value("${catalogo.sincronizacao.atraso-ativacao:PT2S}")
+    private Duration atrasoAtivacao;
+
+    private final CatalogoProdutoService catalogoService;
+    private final ProdutoRepository repository;
+    private final CanalCatalogo canal;
+    private final Clock relogio = Clock.systemUTC();
+
+    private final AtomicReference<AssinaturaCatalogo> ultimaAssinatura = new AtomicReference<>();
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        var thread = new Thread(tarefa, "catalogo-ativacao");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Pendente pendente;
+
+    private record Pendente(String impressaoDigital, List<Produto> produtos, Instant ativaEm, ScheduledFuture<?> ativacao) {
+    }
+
+    @PostConstruct
+    public void inicia() {
+        canal.assina(this::recebe);
+        if (catalogoService.getModo() != BANCO)
+            ultimaAssinatura.set(repository.buscaAssinatura());
+    }
+
+    @PreDestroy
+    public void encerra() {
+        agendador.shutdownNow();
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalogo.sincronizacao.intervalo-verificacao-ms:5000}",
+            fixedDelayString = "${catalogo.sincronizacao.intervalo-verificacao-ms:5000}"
+    )
+    public void verificaAssinatura() {
+        if (catalogoService.getModo() == BANCO)
+            return;
+
+        try {
+            var assinatura = repository.buscaAssinatura();
+            if (!assinatura.equals(ultimaAssinatura.get())) {
+                verifica();
+                ultimaAssinatura.set(assinatura);
+            }
+        } catch (RuntimeException e) {
+            log.warn("falha ao consultar a assinatura do catálogo de produtos", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalogo.intervalo-atualizacao-ms:300000}",
+            fixedDelayString = "${catalogo.intervalo-atualizacao-ms:300000}"
+    )
+    public void verificacaoCompleta() {
+        if (catalogoService.getModo() == BANCO)
+            return;
+
+        try {
+            verifica();
+        } catch (RuntimeException e) {
+            log.error("falha ao verificar o catálogo de produtos", e);
+        }
+    }
+
+    public CatalogoStatus verifica() {
+        var produtos = catalogoService.carrega();
+        var impressaoDigital = CatalogoProduto.impressaoDigital(produtos);
+        if (impressaoDigital.equals(catalogoService.impressaoDigital()))
+            return catalogoService.status();
+
+        var aviso = new AvisoCatalogo(impressaoDigital, relogio.instant().plus(atrasoAtivacao));
+        if (prepara(aviso, produtos)) {
+            log.info("nova versão {} do catálogo encontrada, ativação agendada para {}", impressaoDigital, aviso.getAtivaEm());
+            canal.publica(aviso);
+        }
+        return catalogoService.status();
+    }
+
+    void recebe(AvisoCatalogo aviso) {
+        if (aviso.getImpressaoDigital().equals(catalogoService.impressaoDigital()) || jaAgendado(aviso))
+            return;
+
+        var produtos = catalogoService.carrega();
+        var impressaoDigital = CatalogoProduto.impressaoDigital(produtos);
+        if (!impressaoDigital.equals(aviso.getImpressaoDigital())) {
+            log.warn("aviso da versão {} do catálogo ignorado, o banco já está na versão {}", aviso.getImpressaoDigital(), impressaoDigital);
+            return;
+        }
+
+        if (prepara(aviso, produtos))
+            log.info("versão {} do catálogo recebida, ativação agendada para {}", impressaoDigital, aviso.getAtivaEm());
+    }
+
+    private synchronized boolean jaAgendado(AvisoCatalogo aviso) {
+        return nonNull(pendente)
+                && pendente.impressaoDigital().equals(aviso.getImpressaoDigital())
+                && !pendente.ativaEm().isAfter(aviso.getAtivaEm());
+    }
+
+    private synchronized boolean prepara(AvisoCatalogo aviso, List<Produto> produtos) {
+        if (jaAgendado(aviso))
+            return false;
+
+        if (nonNull(pendente))
+            pendente.ativacao().cancel(false);
+
+        var espera = Math.max(0, Duration.between(relogio.instant(), aviso.getAtivaEm()).toMillis());
+        var ativacao = agendador.schedule(() -> ativa(aviso.getImpressaoDigital()), espera, MILLISECONDS);
+        pendente = new Pendente(aviso.getImpressaoDigital(), produtos, aviso.getAtivaEm(), ativacao);
+        return true;
+    }
+
+    private synchronized void ativa(String impressaoDigital) {
+        if (pendente == null || !pendente.impressaoDigital().equals(impressaoDigital))
+            return;
+
+        var produtos = pendente.produtos();
+        pendente = null;
+        catalogoService.ativa(produtos);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hackathon.simulacao.repository;
 
 import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.AssinaturaCatalogo;
 import com.hackathon.simulacao.model.dto.MinimoMaximo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,4 +20,9 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
 
     @Query("SELECT p FROM Produto p WHERE p.maxValor is null")
     Optional<Produto> buscaSemValorMaximo();
+
+    @Query("SELECT NEW com.hackathon.simulacao.model.dto.AssinaturaCatalogo(COUNT(p), SUM(p.codigo * p.taxaJuros), "
+            + "SUM(p.codigo * p.minMeses), SUM(p.codigo * COALESCE(p.maxMeses, 0)), SUM(p.codigo * p.minValor), "
+            + "SUM(p.codigo * COALESCE(p.maxValor, 0))) FROM Produto p")
+    AssinaturaCatalogo buscaAssinatura();
 }
@@ -0,0 +1,54 @@
+package com.hackathon.simulacao.util;
+
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public class CompressaoUtil {
+    @SneakyThrows
+    public static byte[] gzip(byte[] dados, int nivel) {
+        var saida = new ByteArrayOutputStream(dados.length / 4 + 64);
+        try (var gzip = new GZIPOutputStream(saida, 8192) {
+            {
+                def.setLevel(nivel);
+            }
+        }) {
+            gzip.write(dados);
+        }
+        return saida.toByteArray();
+    }
+
+    public static boolean aceitaGzip(String acceptEncoding) {
+        if (isNull(acceptEncoding))
+            return false;
+
+        for (var codificacao : acceptEncoding.split(",")) {
+            var partes = codificacao.trim().split(";");
+            var nome = partes[0].trim();
+            if (!nome.equalsIgnoreCase("gzip") && !nome.equals("*"))
+                continue;
+
+            for (int i = 1; i < partes.length; i++) {
+                var parametro = partes[i].trim();
+                if (parametro.regionMatches(true, 0, "q=", 0, 2) && qualidade(parametro.substring(2)) == 0)
+                    return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static double qualidade(String valor) {
+        try {
+            return Double.parseDouble(valor.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
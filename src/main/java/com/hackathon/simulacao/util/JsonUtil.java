@@ -1,17 +0,0 @@
-package com.hackathon.simulacao.util;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
-
-import static lombok.AccessLevel.PRIVATE;
-
-@NoArgsConstructor(access = PRIVATE)
-public class JsonUtil {
-
-    @SneakyThrows
-    public static String ObjectToString(Object obj) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(obj);
-    }
-}
@@ -0,0 +1,40 @@
+package com.hackathon.simulacao.util;
+
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public class ThreadsVirtuais {
+
+    public static boolean disponivel() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    public static ExecutorService executorPorTarefa() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw indisponivel(e);
+        }
+    }
+
+    public static ThreadFactory fabrica(String prefixo) {
+        try {
+            var construtor = Thread.class.getMethod("ofVirtual").invoke(null);
+            var tipoConstrutor = Class.forName("java.lang.Thread$Builder");
+            construtor = tipoConstrutor.getMethod("name", String.class, long.class).invoke(construtor, prefixo + "-", 1L);
+            return (ThreadFactory) tipoConstrutor.getMethod("factory").invoke(construtor);
+        } catch (ReflectiveOperationException e) {
+            throw indisponivel(e);
+        }
+    }
+
+    private static IllegalStateException indisponivel(Exception causa) {
+        return new IllegalStateException("Threads virtuais exigem Java 21 ou superior, versão atual: " + Runtime.version(), causa);
+    }
+}
@@ -0,0 +1,49 @@
+package com.hackathon.simulacao;
+
+import com.hackathon.simulacao.model.FatoresPrice;
+import com.hackathon.simulacao.model.Produto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+public final class ProdutosExemplo {
+    public static final int PRAZO_MAXIMO = 600;
+
+    private ProdutosExemplo() {
+    }
+
+    public static List<Produto> produtos() {
+        return List.of(
+                produto(1L, "Produto 1", "0.017900000", 0, 24, "200.00", "10000.00"),
+                produto(2L, "Produto 2", "0.017500000", 25, 48, "10000.01", "100000.00"),
+                produto(3L, "Produto 3", "0.018200000", 49, 96, "100000.01", "1000000.00"),
+                produto(4L, "Produto 4", "0.015100000", 96, null, "1000000.01", null)
+        );
+    }
+
+    public static Produto produto(Long codigo, String nome, String taxa, Integer minMeses, Integer maxMeses,
+                                  String minValor, String maxValor) {
+        var produto = new Produto();
+        produto.setCodigo(codigo);
+        produto.setNome(nome);
+        produto.setTaxaJuros(new BigDecimal(taxa));
+        produto.setMinMeses(minMeses);
+        produto.setMaxMeses(maxMeses);
+        produto.setMinValor(new BigDecimal(minValor));
+        produto.setMaxValor(maxValor == null ? null : new BigDecimal(maxValor));
+        produto.setFatoresPrice(FatoresPrice.de(produto, PRAZO_MAXIMO));
+        return produto;
+    }
+
+    public static int prazoMaximo(Produto produto) {
+        return produto.getMaxMeses() == null ? PRAZO_MAXIMO : produto.getMaxMeses();
+    }
+
+    public static List<BigDecimal> valores(Produto produto) {
+        var minimo = produto.getMinValor();
+        var maximo = produto.getMaxValor() == null ? new BigDecimal("250000000.00") : produto.getMaxValor();
+        var meio = minimo.add(maximo).divide(BigDecimal.valueOf(3), 2, RoundingMode.DOWN);
+        return List.of(minimo, meio, maximo);
+    }
+}
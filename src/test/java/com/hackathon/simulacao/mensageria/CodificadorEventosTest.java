@@ -0,0 +1,136 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.dto.SimulacaoResultado;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CodificadorEventosTest {
+    private static final SimulacaoRequest PRAZO_ZERO = new SimulacaoRequest(new BigDecimal("5000.00"), 0);
+
+    private final MotorAmortizacaoBigDecimal motor = new MotorAmortizacaoBigDecimal();
+    private final Produto produto = ProdutosExemplo.produtos().get(0);
+
+    static Stream<Arguments> casos() {
+        return Stream.concat(
+                ProdutosExemplo.produtos().stream().map(produto -> Arguments.of(produto.getNome(), produto, "versao-" + produto.getCodigo())),
+                Stream.of(Arguments.of("sem versão", ProdutosExemplo.produtos().get(0), null)));
+    }
+
+    @Test
+    void codigosDeFormatoETipoSaoEstaveis() {
+        assertEquals(0, FormatoEvento.JSON.getCodigo());
+        assertEquals(1, FormatoEvento.BINARIO.getCodigo());
+        assertEquals(2, FormatoEvento.RESUMO.getCodigo());
+        assertEquals(0, TipoTabelaCorrecaoMonetaria.PRICE.getCodigo());
+        assertEquals(1, TipoTabelaCorrecaoMonetaria.SAC.getCodigo());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("casos")
+    void binarioReproduzOCalculoEmTodosOsPrazos(String nome, Produto produto, String versaoCatalogo) {
+        for (int prazo = 0; prazo <= ProdutosExemplo.prazoMaximo(produto); prazo++) {
+            var request = new SimulacaoRequest(new BigDecimal("5000.00"), prazo);
+            var calculo = calcula(produto, request, versaoCatalogo);
+
+            var decodificado = LeitorBinario.binario(new CodificadorBinario().codifica(request, calculo));
+
+            assertEquals(emCentavos(calculo), decodificado, "prazo " + prazo);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("casos")
+    void resumoReproduzOCalculoEmTodosOsPrazos(String nome, Produto produto, String versaoCatalogo) {
+        for (int prazo = 0; prazo <= ProdutosExemplo.prazoMaximo(produto); prazo++) {
+            var request = new SimulacaoRequest(new BigDecimal("5000.00"), prazo);
+            var calculo = calcula(produto, request, versaoCatalogo);
+
+            var resumo = LeitorBinario.resumo(new CodificadorResumo().codifica(request, calculo));
+
+            var cabecalho = SimulacaoResponse.builder()
+                    .codigoProduto(calculo.getCodigoProduto())
+                    .descricaoProduto(calculo.getDescricaoProduto())
+                    .taxaJuros(calculo.getTaxaJuros())
+                    .versaoCatalogo(versaoCatalogo)
+                    .build();
+            var tabelas = calculo.getResultadoSimulacao().stream()
+                    .map(resultado -> new LeitorBinario.TabelaResumida(resultado.getTipo(), resultado.getValorTotalParcelas(),
+                            resultado.getParcelas().get(0).getValorPrestacao().setScale(2)))
+                    .toList();
+            assertEquals(new LeitorBinario.Resumo(cabecalho, request.getValorDesejado(), prazo, tabelas), resumo, "prazo " + prazo);
+        }
+    }
+
+    @Test
+    void binarioDistingueOTotalAusenteDoTotalZero() {
+        var calculo = calcula(produto, PRAZO_ZERO, null);
+        assertNull(calculo.getResultadoSimulacao().get(1).getValorTotalParcelas());
+
+        var decodificado = LeitorBinario.binario(new CodificadorBinario().codifica(PRAZO_ZERO, calculo));
+
+        assertNull(decodificado.getResultadoSimulacao().get(0).getValorTotalParcelas());
+        assertNull(decodificado.getResultadoSimulacao().get(1).getValorTotalParcelas());
+    }
+
+    @Test
+    void jsonIncrementalReproduzOCalculoEmTodosOsPrazos() throws IOException {
+        var leitor = new ObjectMapper();
+        for (int prazo = 0; prazo <= ProdutosExemplo.prazoMaximo(produto); prazo++) {
+            var request = new SimulacaoRequest(new BigDecimal("5000.00"), prazo);
+            var calculo = calcula(produto, request, null);
+
+            var codificacao = new CodificadorJson(new ObjectMapper()).inicia(request, calculo, calculo.getResultadoSimulacao().size());
+            for (var resultado : calculo.getResultadoSimulacao()) {
+                codificacao.iniciaTabela(resultado.getTipo());
+                resultado.getParcelas().forEach(codificacao::parcela);
+                codificacao.encerraTabela(resultado.getValorTotalParcelas());
+            }
+
+            assertEquals(calculo, leitor.readValue(codificacao.bytes(), SimulacaoResponse.class), "prazo " + prazo);
+        }
+    }
+
+    private SimulacaoResponse calcula(Produto produto, SimulacaoRequest request, String versaoCatalogo) {
+        return SimulacaoResponse.builder()
+                .codigoProduto(produto.getCodigo())
+                .descricaoProduto(produto.getNome())
+                .taxaJuros(produto.getTaxaJuros())
+                .versaoCatalogo(versaoCatalogo)
+                .resultadoSimulacao(List.of(motor.calculaSAC(produto, request), motor.calculaPRICE(produto, request)))
+                .build();
+    }
+
+    private static SimulacaoResponse emCentavos(SimulacaoResponse calculo) {
+        var resultados = calculo.getResultadoSimulacao().stream()
+                .map(resultado -> SimulacaoResultado.builder()
+                        .tipo(resultado.getTipo())
+                        .valorTotalParcelas(resultado.getValorTotalParcelas())
+                        .parcelas(resultado.getParcelas().stream()
+                                .map(parcela -> new SimulacaoParcela(parcela.getNumero(), parcela.getValorAmortizacao().setScale(2),
+                                        parcela.getValorJuros().setScale(2), parcela.getValorPrestacao().setScale(2)))
+                                .toList())
+                        .build())
+                .toList();
+        return new SimulacaoResponse(calculo.getCodigoProduto(), calculo.getDescricaoProduto(), calculo.getTaxaJuros(),
+                calculo.getVersaoCatalogo(), resultados);
+    }
+}
@@ -0,0 +1,151 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.model.dto.SimulacaoResultado;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hackathon.simulacao.enumerable.FormatoEvento.BINARIO;
+import static com.hackathon.simulacao.enumerable.FormatoEvento.RESUMO;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class LeitorBinario {
+    record Resumo(SimulacaoResponse cabecalho, BigDecimal valorDesejado, int prazo, List<TabelaResumida> tabelas) {
+    }
+
+    record TabelaResumida(TipoTabelaCorrecaoMonetaria tipo, BigDecimal valorTotalParcelas, BigDecimal primeiraPrestacao) {
+    }
+
+    private final byte[] bytes;
+    private int posicao;
+
+    private LeitorBinario(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    static SimulacaoResponse binario(byte[] evento) {
+        var leitor = new LeitorBinario(evento);
+        var resposta = leitor.cabecalho(BINARIO);
+        var tabelas = (int) leitor.varint();
+        var resultados = new ArrayList<SimulacaoResultado>(tabelas);
+        for (int t = 0; t < tabelas; t++) {
+            var tipo = leitor.tipo();
+            var quantidade = (int) leitor.varint();
+            var amortizacoes = leitor.coluna(quantidade);
+            var juros = leitor.coluna(quantidade);
+            var prestacoes = leitor.coluna(quantidade);
+            var parcelas = new ArrayList<SimulacaoParcela>(quantidade);
+            for (int i = 0; i < quantidade; i++)
+                parcelas.add(new SimulacaoParcela(i + 1, centavos(amortizacoes[i]), centavos(juros[i]), centavos(prestacoes[i])));
+            resultados.add(SimulacaoResultado.builder()
+                    .tipo(tipo)
+                    .valorTotalParcelas(leitor.centavosOpcional())
+                    .parcelas(parcelas)
+                    .build());
+        }
+        leitor.verificaFim();
+        resposta.setResultadoSimulacao(resultados);
+        return resposta;
+    }
+
+    static Resumo resumo(byte[] evento) {
+        var leitor = new LeitorBinario(evento);
+        var cabecalho = leitor.cabecalho(RESUMO);
+        var valorDesejado = leitor.decimal();
+        var prazo = (int) leitor.varint();
+        var tabelas = (int) leitor.varint();
+        var resumidas = new ArrayList<TabelaResumida>(tabelas);
+        for (int t = 0; t < tabelas; t++)
+            resumidas.add(new TabelaResumida(leitor.tipo(), leitor.centavosOpcional(), leitor.centavosOpcional()));
+        leitor.verificaFim();
+        return new Resumo(cabecalho, valorDesejado, prazo, resumidas);
+    }
+
+    private SimulacaoResponse cabecalho(FormatoEvento formato) {
+        if (umByte() != formato.getCodigo())
+            throw new IllegalStateException("formato inesperado");
+        if (umByte() != EscritorBinario.VERSAO)
+            throw new IllegalStateException("versão inesperada");
+        return SimulacaoResponse.builder()
+                .codigoProduto(varint())
+                .descricaoProduto(texto())
+                .taxaJuros(decimal())
+                .versaoCatalogo(presente() ? texto() : null)
+                .build();
+    }
+
+    private TipoTabelaCorrecaoMonetaria tipo() {
+        var codigo = umByte();
+        return Arrays.stream(TipoTabelaCorrecaoMonetaria.values())
+                .filter(tipo -> tipo.getCodigo() == codigo)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("tipo desconhecido: " + codigo));
+    }
+
+    private long[] coluna(int quantidade) {
+        var valores = new long[quantidade];
+        var anterior = 0L;
+        for (int i = 0; i < quantidade; i++) {
+            anterior += zigzag();
+            valores[i] = anterior;
+        }
+        return valores;
+    }
+
+    private BigDecimal centavosOpcional() {
+        return presente() ? centavos(zigzag()) : null;
+    }
+
+    private BigDecimal decimal() {
+        var escala = (int) varint();
+        return BigDecimal.valueOf(zigzag(), escala);
+    }
+
+    private String texto() {
+        var tamanho = (int) varint();
+        var valor = new String(bytes, posicao, tamanho, UTF_8);
+        posicao += tamanho;
+        return valor;
+    }
+
+    private boolean presente() {
+        var presenca = umByte();
+        if (presenca > 1)
+            throw new IllegalStateException("marcador de presença inválido: " + presenca);
+        return presenca == 1;
+    }
+
+    private long zigzag() {
+        var valor = varint();
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    private long varint() {
+        var valor = 0L;
+        for (int deslocamento = 0; ; deslocamento += 7) {
+            var atual = bytes[posicao++];
+            valor |= (long) (atual & 0x7F) << deslocamento;
+            if ((atual & 0x80) == 0)
+                return valor;
+        }
+    }
+
+    private int umByte() {
+        return bytes[posicao++] & 0xFF;
+    }
+
+    private void verificaFim() {
+        if (posicao != bytes.length)
+            throw new IllegalStateException("bytes restantes: " + (bytes.length - posicao));
+    }
+
+    private static BigDecimal centavos(long valor) {
+        return BigDecimal.valueOf(valor, 2);
+    }
+}
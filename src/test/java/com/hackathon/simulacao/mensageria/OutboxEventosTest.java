@@ -0,0 +1,302 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.exception.EventoRecusadoException;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class OutboxEventosTest {
+    private static final int TAMANHO_EVENTO = 16;
+    private static final int TAMANHO_REGISTRO = 8 + TAMANHO_EVENTO;
+
+    @TempDir
+    Path diretorio;
+
+    private final DestinoControlado destino = new DestinoControlado();
+    private final List<OutboxEventos> abertos = new ArrayList<>();
+
+    @AfterEach
+    void encerra() throws Exception {
+        destino.libera();
+        for (var outbox : abertos)
+            outbox.encerra();
+    }
+
+    @Test
+    void entregaOsEventosGravadosNaOrdem() throws Exception {
+        var outbox = outbox(1 << 20, 100);
+
+        outbox.gravaTodos(IntStream.range(0, 150).mapToObj(OutboxEventosTest::evento).toList());
+        IntStream.range(150, 200).forEach(i -> outbox.grava(evento(i)));
+
+        aguarda(() -> destino.numeros.size() == 200, "eventos entregues: " + destino.numeros.size());
+        assertEquals(IntStream.range(0, 200).boxed().toList(), destino.numeros);
+        assertEquals(200, outbox.status().getGravados());
+        aguarda(() -> outbox.status().getEnviados() == 200, "enviados: " + outbox.status().getEnviados());
+    }
+
+    @Test
+    void rejeitaEventoVazio() throws Exception {
+        var outbox = outbox(1 << 20, 100);
+
+        assertThrows(IllegalArgumentException.class, () -> outbox.grava(new byte[0]));
+    }
+
+    @Test
+    void rejeitaEventoMaiorQueOAceitoPeloDestino() throws Exception {
+        destino.tamanhoMaximo = TAMANHO_EVENTO - 1;
+        var outbox = outbox(1 << 20, 100);
+
+        assertThrows(IllegalArgumentException.class, () -> outbox.grava(evento(0)));
+    }
+
+    @Test
+    void colocaEmQuarentenaOEventoRecusadoPeloDestinoEContinuaARetransmissao() throws Exception {
+        destino.recusado = 3;
+        var outbox = outbox(1 << 20, 100);
+
+        outbox.gravaTodos(IntStream.range(0, 10).mapToObj(OutboxEventosTest::evento).toList());
+        IntStream.range(10, 15).forEach(i -> outbox.grava(evento(i)));
+
+        aguarda(() -> destino.numeros.size() == 14, "eventos entregues: " + destino.numeros);
+        assertEquals(IntStream.range(0, 15).filter(i -> i != 3).boxed().toList(), destino.numeros);
+        aguarda(() -> outbox.status().getRecusados() == 1, "recusados: " + outbox.status().getRecusados());
+        assertEquals(0, outbox.status().getFalhas());
+        try (var quarentena = Files.list(diretorio.resolve("quarentena"))) {
+            var arquivos = quarentena.toList();
+            assertEquals(1, arquivos.size());
+            assertEquals(3, ByteBuffer.wrap(Files.readAllBytes(arquivos.get(0))).getInt());
+        }
+        encerra(outbox);
+
+        destino.recusado = -1;
+        var reiniciado = outbox(1 << 20, 100);
+        reiniciado.grava(evento(15));
+        aguarda(() -> destino.numeros.size() == 15, "eventos entregues: " + destino.numeros);
+        assertEquals(15, destino.numeros.get(14));
+    }
+
+    @Test
+    void rotacionaOsSegmentosEApagaOsJaEnviados() throws Exception {
+        var outbox = outbox(4 * TAMANHO_REGISTRO + Integer.BYTES, 100);
+
+        IntStream.range(0, 30).forEach(i -> outbox.grava(evento(i)));
+
+        aguarda(() -> destino.numeros.size() == 30, "eventos entregues: " + destino.numeros.size());
+        assertEquals(IntStream.range(0, 30).boxed().toList(), destino.numeros);
+        assertTrue(outbox.status().getSegmentoEscrita() >= 7, "segmento em gravação: " + outbox.status().getSegmentoEscrita());
+        aguarda(() -> segmentos().size() == 1, "segmentos restantes: " + segmentos());
+    }
+
+    @Test
+    void continuaNumeracaoDosSegmentosDepoisDeReiniciar() throws Exception {
+        var tamanhoSegmento = 4 * TAMANHO_REGISTRO + Integer.BYTES;
+        destino.indisponivel = true;
+        var primeiro = outbox(tamanhoSegmento, 100);
+        IntStream.range(0, 10).forEach(i -> primeiro.grava(evento(i)));
+        encerra(primeiro);
+        assertEquals(3, segmentos().size());
+
+        destino.indisponivel = false;
+        var segundo = outbox(tamanhoSegmento, 100);
+        IntStream.range(10, 20).forEach(i -> segundo.grava(evento(i)));
+
+        aguarda(() -> destino.numeros.size() == 20, "eventos entregues: " + destino.numeros.size());
+        assertEquals(IntStream.range(0, 20).boxed().toList(), destino.numeros);
+    }
+
+    @Test
+    void desfazAGravacaoQuandoARotacaoFalha() throws Exception {
+        var tamanhoSegmento = 4 * TAMANHO_REGISTRO + Integer.BYTES;
+        var outbox = outbox(tamanhoSegmento, 100);
+        IntStream.range(0, 4).forEach(i -> outbox.grava(evento(i)));
+        var bloqueioRotacao = Files.createDirectory(diretorio.resolve("%020d.log".formatted(1)));
+
+        assertThrows(IllegalStateException.class, () -> outbox.grava(evento(4)));
+
+        Files.delete(bloqueioRotacao);
+        outbox.grava(evento(5));
+        aguarda(() -> destino.numeros.size() == 5, "eventos entregues: " + destino.numeros);
+        assertEquals(List.of(0, 1, 2, 3, 5), destino.numeros);
+        encerra(outbox);
+
+        var reiniciado = outbox(tamanhoSegmento, 100);
+        reiniciado.grava(evento(6));
+        aguarda(() -> destino.numeros.size() == 6, "eventos entregues: " + destino.numeros);
+        assertEquals(List.of(0, 1, 2, 3, 5, 6), destino.numeros);
+    }
+
+    @Test
+    void descartaNaRecuperacaoORegistroFinalIncompleto() throws Exception {
+        recuperaDepoisDe(mapa -> {
+            for (int i = 1; i <= 3; i++)
+                mapa.put(5 * TAMANHO_REGISTRO - i, (byte) 0);
+        });
+    }
+
+    @Test
+    void descartaNaRecuperacaoORegistroFinalComCrcInvalido() throws Exception {
+        recuperaDepoisDe(mapa -> mapa.putInt(4 * TAMANHO_REGISTRO + Integer.BYTES, mapa.getInt(4 * TAMANHO_REGISTRO + Integer.BYTES) ^ 1));
+    }
+
+    @Test
+    void colocaEmQuarentenaORegistroComCrcInvalidoEContinuaARetransmissao() throws Exception {
+        destino.bloqueia();
+        var outbox = outbox(1 << 20, 1);
+        outbox.gravaTodos(IntStream.range(0, 5).mapToObj(OutboxEventosTest::evento).toList());
+        assertTrue(destino.aguardaEnvio(), "a retransmissão não começou");
+
+        corrompe(0, mapa -> mapa.put(2 * TAMANHO_REGISTRO + 8 + TAMANHO_EVENTO - 1, (byte) 0x7F));
+        destino.libera();
+
+        aguarda(() -> destino.numeros.size() == 4, "eventos entregues: " + destino.numeros);
+        assertEquals(List.of(0, 1, 3, 4), destino.numeros);
+        assertEquals(1, outbox.status().getCorrompidos());
+        try (var quarentena = Files.list(diretorio.resolve("quarentena"))) {
+            var arquivos = quarentena.toList();
+            assertEquals(1, arquivos.size());
+            assertEquals(2, ByteBuffer.wrap(Files.readAllBytes(arquivos.get(0))).getInt());
+        }
+    }
+
+    private void recuperaDepoisDe(Consumer<MappedByteBuffer> corrupcao) throws Exception {
+        destino.indisponivel = true;
+        var primeiro = outbox(1 << 20, 100);
+        IntStream.range(0, 5).forEach(i -> primeiro.grava(evento(i)));
+        encerra(primeiro);
+
+        corrompe(0, corrupcao);
+        destino.indisponivel = false;
+        var segundo = outbox(1 << 20, 100);
+        aguarda(() -> destino.numeros.size() == 4, "eventos entregues: " + destino.numeros);
+        segundo.grava(evento(5));
+
+        aguarda(() -> destino.numeros.size() == 5, "eventos entregues: " + destino.numeros);
+        assertEquals(List.of(0, 1, 2, 3, 5), destino.numeros);
+        encerra(segundo);
+
+        var terceiro = outbox(1 << 20, 100);
+        terceiro.grava(evento(6));
+        aguarda(() -> destino.numeros.size() == 6, "eventos entregues: " + destino.numeros);
+        assertEquals(List.of(0, 1, 2, 3, 5, 6), destino.numeros);
+    }
+
+    private OutboxEventos outbox(int tamanhoSegmento, int tamanhoLote) throws IOException {
+        var outbox = new OutboxEventos(destino, new MetricasSimulacao(new SimpleMeterRegistry()));
+        setField(outbox, "diretorio", diretorio);
+        setField(outbox, "tamanhoSegmento", tamanhoSegmento);
+        setField(outbox, "capacidadeFila", 1000);
+        setField(outbox, "sincronizaDisco", true);
+        setField(outbox, "esperaInicialReenvioMs", 5L);
+        setField(outbox, "esperaMaximaReenvioMs", 20L);
+        setField(outbox, "tamanhoLote", tamanhoLote);
+        setField(outbox, "esperaLoteMs", 5L);
+        outbox.inicia();
+        abertos.add(outbox);
+        return outbox;
+    }
+
+    private void encerra(OutboxEventos outbox) throws Exception {
+        abertos.remove(outbox);
+        outbox.encerra();
+    }
+
+    private void corrompe(long segmento, Consumer<MappedByteBuffer> corrupcao) throws IOException {
+        try (var canal = FileChannel.open(diretorio.resolve("%020d.log".formatted(segmento)), READ, WRITE)) {
+            var mapa = canal.map(READ_WRITE, 0, canal.size());
+            corrupcao.accept(mapa);
+            mapa.force();
+        }
+    }
+
+    private List<Path> segmentos() {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(arquivo -> arquivo.getFileName().toString().endsWith(".log")).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void aguarda(BooleanSupplier condicao, String mensagem) throws InterruptedException {
+        var limite = System.nanoTime() + SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite)
+            Thread.sleep(5);
+        assertTrue(condicao.getAsBoolean(), mensagem);
+    }
+
+    private static byte[] evento(int numero) {
+        return ByteBuffer.allocate(TAMANHO_EVENTO).putInt(numero).putInt(TAMANHO_EVENTO - 4, ~numero).array();
+    }
+
+    static class DestinoControlado extends DestinoLocal {
+        final List<Integer> numeros = new CopyOnWriteArrayList<>();
+        volatile boolean indisponivel;
+        volatile int recusado = -1;
+        volatile int tamanhoMaximo = Integer.MAX_VALUE;
+        private final Semaphore envios = new Semaphore(0);
+        private final Semaphore bloqueio = new Semaphore(Integer.MAX_VALUE);
+        private volatile boolean bloqueado;
+
+        @Override
+        public void envia(List<byte[]> lote) {
+            envios.release();
+            bloqueio.acquireUninterruptibly();
+            bloqueio.release();
+            if (indisponivel)
+                throw new IllegalStateException("destino indisponível");
+            for (int i = 0; i < lote.size(); i++) {
+                if (ByteBuffer.wrap(lote.get(i)).getInt() == recusado)
+                    throw new EventoRecusadoException(i, "evento recusado");
+            }
+            lote.forEach(evento -> numeros.add(ByteBuffer.wrap(evento).getInt()));
+            super.envia(lote);
+        }
+
+        @Override
+        public int tamanhoMaximoEvento() {
+            return tamanhoMaximo;
+        }
+
+        boolean aguardaEnvio() throws InterruptedException {
+            return envios.tryAcquire(5, SECONDS);
+        }
+
+        void bloqueia() {
+            bloqueio.acquireUninterruptibly(Integer.MAX_VALUE);
+            bloqueado = true;
+        }
+
+        void libera() {
+            if (bloqueado) {
+                bloqueado = false;
+                bloqueio.release(Integer.MAX_VALUE);
+            }
+        }
+    }
+}
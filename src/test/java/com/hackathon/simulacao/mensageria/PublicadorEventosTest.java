@@ -0,0 +1,193 @@
+package com.hackathon.simulacao.mensageria;
+
+import com.hackathon.simulacao.enumerable.EstrategiaContencao;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicadorEventosTest {
+    private final DestinoRegistrado destino = new DestinoRegistrado();
+    private PublicadorEventos publicador;
+
+    @AfterEach
+    void encerra() throws InterruptedException {
+        if (publicador != null)
+            publicador.encerra();
+    }
+
+    @Test
+    void fechaOLoteAoAtingirOTamanhoMaximo() throws InterruptedException {
+        publicador = publicador(10, 60_000);
+
+        IntStream.range(0, 30).forEach(i -> publicador.publica(evento(i)));
+
+        assertTrue(destino.aguardaLotes(3), "lotes recebidos: " + destino.tamanhos);
+        assertEquals(List.of(10, 10, 10), destino.tamanhos);
+        assertEquals(IntStream.range(0, 30).boxed().toList(), destino.numeros);
+        assertEquals(30, destino.getEventos());
+        publicador.encerra();
+        assertEquals(30, publicador.status().getPublicados());
+    }
+
+    @Test
+    void enviaOLoteIncompletoQuandoAEsperaTermina() throws InterruptedException {
+        publicador = publicador(100, 50);
+
+        var inicio = System.nanoTime();
+        IntStream.range(0, 3).forEach(i -> publicador.publica(evento(i)));
+
+        assertTrue(destino.aguardaLotes(1), "o lote incompleto não foi enviado");
+        assertTrue(System.nanoTime() - inicio >= 40_000_000L, "o lote não esperou o tempo de espera configurado");
+        assertEquals(List.of(3), destino.tamanhos);
+    }
+
+    @Test
+    void enviaOsEventosPendentesAoEncerrar() throws InterruptedException {
+        publicador = publicador(100, 60_000);
+
+        IntStream.range(0, 7).forEach(i -> publicador.publica(evento(i)));
+        var inicio = System.nanoTime();
+        publicador.encerra();
+
+        assertTrue(System.nanoTime() - inicio < SECONDS.toNanos(5), "o encerramento esperou o tempo de espera do lote");
+        assertEquals(List.of(7), destino.tamanhos);
+        assertEquals(IntStream.range(0, 7).boxed().toList(), destino.numeros);
+    }
+
+    @Test
+    void enviaEmLotesOQueFicouNaFilaAoEncerrar() throws InterruptedException {
+        destino.bloqueia();
+        publicador = publicador(4, 60_000);
+
+        IntStream.range(0, 10).forEach(i -> publicador.publica(evento(i)));
+        destino.libera();
+        publicador.encerra();
+
+        assertEquals(10, destino.numeros.size());
+        assertEquals(IntStream.range(0, 10).boxed().toList(), destino.numeros);
+        assertTrue(destino.tamanhos.stream().allMatch(tamanho -> tamanho <= 4), "lotes: " + destino.tamanhos);
+    }
+
+    @Test
+    void enviaCadaListaDePublicaTodosNumUnicoEnvio() throws InterruptedException {
+        destino.bloqueia();
+        publicador = publicador(4, 60_000);
+
+        publicador.publica(evento(0));
+        publicador.publicaTodos(eventos(1, 7));
+        publicador.publica(evento(7));
+        publicador.publicaTodos(eventos(8, 10));
+        destino.libera();
+        publicador.encerra();
+
+        assertEquals(List.of(1, 6, 3), destino.tamanhos);
+        assertEquals(IntStream.range(0, 10).boxed().toList(), destino.numeros);
+    }
+
+    @Test
+    void descartaListasInteirasQuandoAFilaEnche() throws InterruptedException {
+        destino.bloqueia();
+        publicador = publicador(1, 60_000, EstrategiaContencao.DESCARTA_MAIS_ANTIGO, 2);
+
+        publicador.publica(evento(0));
+        aguardaFilaVazia();
+        publicador.publicaTodos(eventos(1, 4));
+        publicador.publicaTodos(eventos(4, 6));
+        publicador.publicaTodos(eventos(6, 9));
+        destino.libera();
+        publicador.encerra();
+
+        assertEquals(List.of(1, 2, 3), destino.tamanhos);
+        assertEquals(List.of(0, 4, 5, 6, 7, 8), destino.numeros);
+        assertEquals(3, publicador.status().getDescartados());
+    }
+
+    @Test
+    void publicaAoEncerrarOsEventosAindaEmCodificacao() throws InterruptedException {
+        publicador = publicador(100, 60_000);
+
+        IntStream.range(0, 50).forEach(i -> publicador.publicaEmSegundoPlano(() -> {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return evento(i);
+        }));
+        publicador.encerra();
+
+        assertEquals(IntStream.range(0, 50).boxed().toList(), destino.numeros.stream().sorted().toList());
+        assertEquals(50, publicador.status().getPublicados());
+    }
+
+    private PublicadorEventos publicador(int tamanhoLote, long esperaLoteMs) {
+        return publicador(tamanhoLote, esperaLoteMs, EstrategiaContencao.BLOQUEIA, 1000);
+    }
+
+    private PublicadorEventos publicador(int tamanhoLote, long esperaLoteMs, EstrategiaContencao estrategia, int capacidadeFila) {
+        var publicador = new PublicadorEventos(destino, new MetricasSimulacao(new SimpleMeterRegistry()), Optional.empty());
+        ReflectionTestUtils.setField(publicador, "capacidadeFila", capacidadeFila);
+        ReflectionTestUtils.setField(publicador, "tamanhoLote", tamanhoLote);
+        ReflectionTestUtils.setField(publicador, "esperaLoteMs", esperaLoteMs);
+        ReflectionTestUtils.setField(publicador, "estrategia", estrategia);
+        publicador.inicia();
+        return publicador;
+    }
+
+    private void aguardaFilaVazia() throws InterruptedException {
+        var limite = System.nanoTime() + SECONDS.toNanos(5);
+        while (publicador.status().getTamanhoFila() > 0 && System.nanoTime() < limite)
+            Thread.sleep(1);
+        assertEquals(0, publicador.status().getTamanhoFila());
+    }
+
+    private static List<byte[]> eventos(int inicio, int fim) {
+        return IntStream.range(inicio, fim).mapToObj(PublicadorEventosTest::evento).toList();
+    }
+
+    private static byte[] evento(int numero) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(numero).array();
+    }
+
+    static class DestinoRegistrado extends DestinoLocal {
+        final List<Integer> tamanhos = new CopyOnWriteArrayList<>();
+        final List<Integer> numeros = new CopyOnWriteArrayList<>();
+        private final Semaphore lotesRecebidos = new Semaphore(0);
+        private final Semaphore bloqueio = new Semaphore(Integer.MAX_VALUE);
+
+        @Override
+        public void envia(List<byte[]> lote) {
+            bloqueio.acquireUninterruptibly();
+            bloqueio.release();
+            tamanhos.add(lote.size());
+            lote.forEach(evento -> numeros.add(ByteBuffer.wrap(evento).getInt()));
+            super.envia(lote);
+            lotesRecebidos.release();
+        }
+
+        boolean aguardaLotes(int quantidade) throws InterruptedException {
+            return lotesRecebidos.tryAcquire(quantidade, 5, SECONDS);
+        }
+
+        void bloqueia() {
+            bloqueio.acquireUninterruptibly(Integer.MAX_VALUE);
+        }
+
+        void libera() {
+            bloqueio.release(Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.hackathon.simulacao.model;
+
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.service.MotorAmortizacaoBigDecimal;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.RoundingMode.HALF_UP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FatoresPriceTest {
+    private static final List<BigDecimal> VALORES = List.of(
+            new BigDecimal("200.00"), new BigDecimal("123456.78"), new BigDecimal("250000000.00"));
+
+    static Stream<BigDecimal> taxas() {
+        var aleatorio = new Random(20231018L);
+        var sorteadas = Stream.generate(() -> BigDecimal.valueOf(500_000 + aleatorio.nextInt(49_500_001), 9)).limit(64);
+        return Stream.concat(ProdutosExemplo.produtos().stream().map(Produto::getTaxaJuros), sorteadas);
+    }
+
+    @ParameterizedTest(name = "taxa {0}")
+    @MethodSource("taxas")
+    void coeficientesReproduzemOCalculoSemTabelaEmTodosOsPrazos(BigDecimal taxa) {
+        var produto = ProdutosExemplo.produto(1L, "Produto", taxa.toPlainString(), 0, null, "0.01", null);
+        var fatores = produto.getFatoresPrice();
+        assertEquals(ProdutosExemplo.PRAZO_MAXIMO, fatores.quantidadePrazos());
+
+        for (int prazo = 1; prazo <= ProdutosExemplo.PRAZO_MAXIMO; prazo++) {
+            var request = new SimulacaoRequest(VALORES.get(prazo % VALORES.size()), prazo);
+
+            assertEquals(MotorAmortizacaoBigDecimal.calculaValorPrestacaoPRICE(request, taxa),
+                    MotorAmortizacaoBigDecimal.calculaValorPrestacaoPRICE(request, produto), "prestação no prazo " + prazo);
+            assertEquals(taxa.add(ONE).pow(prazo).setScale(6, HALF_UP), fatores.potencia(prazo), "potência no prazo " + prazo);
+        }
+
+        assertNull(fatores.coeficiente(taxa, ProdutosExemplo.PRAZO_MAXIMO + 1));
+        assertNull(fatores.coeficiente(taxa.add(new BigDecimal("0.000000001")), 1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.hackathon.simulacao.model.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.enumerable.ClasseAdmissao;
+import com.hackathon.simulacao.model.service.ControleAdmissao;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FiltroAdmissaoTest {
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @CsvSource({
+            "POST, /api/v1/simulacao, SIMULACAO",
+            "GET, /api/v1/simulacao, SIMULACAO",
+            "POST, /api/v1/simulacao/reativa, SIMULACAO",
+            "POST, /api/v1/simulacao/lote, LOTE_FLUXO",
+            "POST, /api/v1/simulacao/fluxo, LOTE_FLUXO"
+    })
+    void classificaARequisicaoPeloCaminho(String metodo, String caminho, ClasseAdmissao classe) throws Exception {
+        var controle = mock(ControleAdmissao.class);
+        var admissao = new ControleAdmissao.Admissao(null, 0, System.nanoTime(), classe);
+        when(controle.admite("chave", classe)).thenReturn(admissao);
+        var request = new MockHttpServletRequest(metodo, caminho);
+        request.addHeader("X-API-Key", "chave");
+
+        new FiltroAdmissao(controle, new ObjectMapper(), "X-API-Key", "anonima").doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(controle).admite("chave", classe);
+        verify(controle).libera(admissao);
+    }
+
+    @ParameterizedTest(name = "cabeçalho [{0}]")
+    @NullSource
+    @ValueSource(strings = {"", "  "})
+    void usaAChaveAnonimaQuandoOCabecalhoFalta(String cabecalho) throws Exception {
+        var controle = mock(ControleAdmissao.class);
+        var admissao = new ControleAdmissao.Admissao(null, 0, System.nanoTime(), ClasseAdmissao.SIMULACAO);
+        when(controle.admite("anonima", ClasseAdmissao.SIMULACAO)).thenReturn(admissao);
+        var request = new MockHttpServletRequest("POST", "/api/v1/simulacao");
+        request.setRemoteAddr("10.0.0.7");
+        if (cabecalho != null)
+            request.addHeader("X-API-Key", cabecalho);
+
+        new FiltroAdmissao(controle, new ObjectMapper(), "X-API-Key", "anonima").doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(controle).admite("anonima", ClasseAdmissao.SIMULACAO);
+        verify(controle).libera(admissao);
+    }
+}
@@ -0,0 +1,55 @@
+package com.hackathon.simulacao.model.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.exception.SimulacaoExceptionHandler;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.service.CatalogoProdutoService;
+import com.hackathon.simulacao.model.service.SimulacaoReativaService;
+import com.hackathon.simulacao.model.service.SimulacaoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SimulacaoControllerTest {
+    private final SimulacaoService service = mock(SimulacaoService.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void prepara() {
+        var controller = new SimulacaoController(service, mock(SimulacaoReativaService.class), mock(CatalogoProdutoService.class), new ObjectMapper());
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new SimulacaoExceptionHandler(new MetricasSimulacao(new SimpleMeterRegistry())))
+                .build();
+    }
+
+    @Test
+    void rejeitaPaginacaoNoModoResumo() throws Exception {
+        mvc.perform(post("/api/v1/simulacao")
+                        .param("modo", "RESUMO")
+                        .param("offset", "10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"valorDesejado\": 900.00, \"prazo\": 5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagensErro[0]").value("offset e limit não podem ser usados com modo=RESUMO"));
+
+        mvc.perform(get("/api/v1/simulacao")
+                        .param("valorDesejado", "900.00")
+                        .param("prazo", "5")
+                        .param("modo", "RESUMO")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+}
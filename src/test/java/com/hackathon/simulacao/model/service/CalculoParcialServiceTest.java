@@ -0,0 +1,64 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CalculoParcialServiceTest {
+    private static final int LIMITE_PAGINA = 120;
+
+    private final MotorAmortizacaoBigDecimal referencia = new MotorAmortizacaoBigDecimal();
+    private final CalculoParcialService calculoParcial = new CalculoParcialService();
+
+    static Stream<Arguments> casos() {
+        return ProdutosExemplo.produtos().stream()
+                .flatMap(produto -> ProdutosExemplo.valores(produto).stream()
+                        .flatMap(valor -> Stream.of(SAC, PRICE).map(tipo -> Arguments.of(tipo, produto.getNome(), produto, valor))));
+    }
+
+    @ParameterizedTest(name = "{0} {1} valor {3}")
+    @MethodSource("casos")
+    void resumoCoincideComOCronogramaCompleto(TipoTabelaCorrecaoMonetaria tipo, String nome, Produto produto, BigDecimal valor) {
+        for (int prazo = produto.getMinMeses(); prazo <= ProdutosExemplo.prazoMaximo(produto); prazo++) {
+            var request = new SimulacaoRequest(valor, prazo);
+            var completo = tipo == SAC ? referencia.calculaSAC(produto, request) : referencia.calculaPRICE(produto, request);
+            var parcelas = completo.getParcelas();
+
+            var resumo = calculoParcial.resumo(tipo, produto, request);
+            assertEquals(completo.getValorTotalParcelas(), resumo.getValorTotalParcelas(), "total no prazo " + prazo);
+            assertEquals(parcelas.size(), resumo.getQuantidadeParcelas(), "quantidade no prazo " + prazo);
+            assertEquals(parcelas.get(0), resumo.getPrimeiraParcela(), "primeira parcela no prazo " + prazo);
+            assertEquals(parcelas.get(parcelas.size() - 1), resumo.getUltimaParcela(), "última parcela no prazo " + prazo);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1} valor {3}")
+    @MethodSource("casos")
+    void paginasCoincidemComOCronogramaCompleto(TipoTabelaCorrecaoMonetaria tipo, String nome, Produto produto, BigDecimal valor) {
+        for (int prazo = produto.getMinMeses(); prazo <= ProdutosExemplo.prazoMaximo(produto); prazo++) {
+            var request = new SimulacaoRequest(valor, prazo);
+            var completo = tipo == SAC ? referencia.calculaSAC(produto, request) : referencia.calculaPRICE(produto, request);
+            var parcelas = completo.getParcelas();
+
+            for (int offset : new int[]{0, prazo / 2, Math.max(prazo - 1, 0)}) {
+                var pagina = calculoParcial.pagina(tipo, produto, request, offset, LIMITE_PAGINA);
+                var ate = Math.min(parcelas.size(), offset + LIMITE_PAGINA);
+                assertEquals(completo.getValorTotalParcelas(), pagina.getValorTotalParcelas(), "total no prazo " + prazo);
+                assertEquals(parcelas.size(), pagina.getQuantidadeParcelas(), "quantidade no prazo " + prazo);
+                assertEquals(parcelas.subList(Math.min(offset, ate), ate), pagina.getParcelas(),
+                        "parcelas a partir de " + offset + " no prazo " + prazo);
+            }
+        }
+    }
+}
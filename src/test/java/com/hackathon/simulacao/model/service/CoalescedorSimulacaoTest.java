@@ -0,0 +1,153 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescedorSimulacaoTest {
+    private static final int CHAMADAS_POR_CHAVE = 16;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CoalescedorSimulacao coalescedor = new CoalescedorSimulacao(true, new MetricasSimulacao(registry));
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch liberaCalculo = new CountDownLatch(1);
+    private final ConcurrentHashMap<SimulacaoRequest, AtomicInteger> calculos = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void encerra() throws InterruptedException {
+        liberaCalculo.countDown();
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(5, SECONDS));
+    }
+
+    @Test
+    void calculaUmaUnicaVezPorChaveEEntregaOMesmoResultadoATodos() throws Exception {
+        var chaves = List.of(request(1000, 12), request(1000, 24), request(2000, 12), request(3000, 36));
+        var respostasPorChave = new ArrayList<List<Future<SimulacaoResponse>>>();
+        for (var chave : chaves) {
+            var daChave = new ArrayList<Future<SimulacaoResponse>>();
+            for (int i = 0; i < CHAMADAS_POR_CHAVE; i++)
+                daChave.add(executor.submit(() -> coalescedor.executa(copia(chave), () -> calcula(chave))));
+            respostasPorChave.add(daChave);
+        }
+
+        aguardaSeguidores(chaves.size() * (CHAMADAS_POR_CHAVE - 1));
+        liberaCalculo.countDown();
+
+        for (int i = 0; i < chaves.size(); i++) {
+            var primeira = respostasPorChave.get(i).get(0).get(5, SECONDS);
+            for (var resposta : respostasPorChave.get(i))
+                assertSame(primeira, resposta.get(5, SECONDS));
+            assertEquals(1, calculos.get(chaves.get(i)).get(), "cálculos de " + chaves.get(i));
+        }
+        assertNotSame(respostasPorChave.get(0).get(0).get(), respostasPorChave.get(1).get(0).get());
+        assertEquals(0.0, registry.get("simulacao.coalescencia.em.andamento").gauge().value());
+    }
+
+    @Test
+    void propagaAFalhaATodosQueAguardavamERecalculaNaChamadaSeguinte() throws Exception {
+        var chave = request(1000, 12);
+        var falha = new IllegalStateException("falha no cálculo");
+        var chamadas = new ArrayList<Future<SimulacaoResponse>>();
+        for (int i = 0; i < CHAMADAS_POR_CHAVE; i++)
+            chamadas.add(executor.submit(() -> coalescedor.executa(copia(chave), () -> {
+                calcula(chave);
+                throw falha;
+            })));
+
+        aguardaSeguidores(CHAMADAS_POR_CHAVE - 1);
+        liberaCalculo.countDown();
+
+        for (var chamada : chamadas) {
+            var erro = assertThrows(ExecutionException.class, () -> chamada.get(5, SECONDS));
+            assertSame(falha, erro.getCause());
+        }
+        assertEquals(1, calculos.get(chave).get());
+
+        var recalculada = coalescedor.executa(copia(chave), () -> calcula(chave));
+        assertEquals(chave.getPrazo(), recalculada.getCodigoProduto().intValue());
+        assertEquals(2, calculos.get(chave).get());
+    }
+
+    @Test
+    void coalesceAsChamadasReativasEPropagaAFalha() throws Exception {
+        var chave = request(1000, 12);
+        var falha = new IllegalStateException("falha no cálculo");
+        Callable<SimulacaoResponse> chamada = () -> coalescedor.executaReativo(copia(chave),
+                () -> Mono.fromCallable(() -> {
+                    calcula(chave);
+                    throw falha;
+                })).block(Duration.ofSeconds(5));
+        var chamadas = new ArrayList<Future<SimulacaoResponse>>();
+        for (int i = 0; i < CHAMADAS_POR_CHAVE; i++)
+            chamadas.add(executor.submit(chamada));
+
+        aguardaSeguidores(CHAMADAS_POR_CHAVE - 1);
+        liberaCalculo.countDown();
+
+        for (var pendente : chamadas) {
+            var erro = assertThrows(ExecutionException.class, () -> pendente.get(5, SECONDS));
+            assertSame(falha, erro.getCause());
+        }
+        assertEquals(1, calculos.get(chave).get());
+
+        var recalculada = coalescedor.executaReativo(copia(chave), () -> Mono.fromCallable(() -> calcula(chave)))
+                .block(Duration.ofSeconds(5));
+        assertEquals(chave.getPrazo(), recalculada.getCodigoProduto().intValue());
+        assertEquals(2, calculos.get(chave).get());
+    }
+
+    private SimulacaoResponse calcula(SimulacaoRequest chave) {
+        calculos.computeIfAbsent(chave, c -> new AtomicInteger()).incrementAndGet();
+        try {
+            assertTrue(liberaCalculo.await(5, SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return SimulacaoResponse.builder().codigoProduto((long) chave.getPrazo()).build();
+    }
+
+    private void aguardaSeguidores(int quantidade) throws InterruptedException {
+        var limite = System.nanoTime() + SECONDS.toNanos(5);
+        while (seguidores() < quantidade && System.nanoTime() < limite)
+            Thread.sleep(1);
+        assertEquals(quantidade, seguidores());
+    }
+
+    private double seguidores() {
+        return registry.get("simulacao.coalescencia").tag("papel", "seguidor").counter().count();
+    }
+
+    private static SimulacaoRequest request(int valor, int prazo) {
+        return new SimulacaoRequest(new BigDecimal(valor), prazo);
+    }
+
+    private static SimulacaoRequest copia(SimulacaoRequest request) {
+        return new SimulacaoRequest(request.getValorDesejado(), request.getPrazo());
+    }
+}
@@ -0,0 +1,62 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.hackathon.simulacao.enumerable.ClasseAdmissao.LOTE_FLUXO;
+import static com.hackathon.simulacao.enumerable.ClasseAdmissao.SIMULACAO;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.CONCORRENCIA;
+import static com.hackathon.simulacao.enumerable.MotivoDescarte.TAXA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ControleAdmissaoTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void devolveOTokenQuandoDescartaPorConcorrencia() {
+        var controle = controle(0.001, 2);
+
+        var primeira = controle.admite("chave");
+        assertTrue(primeira.aceita());
+        assertEquals(CONCORRENCIA, controle.admite("chave").motivo());
+        controle.libera(primeira);
+
+        var segunda = controle.admite("chave");
+        assertTrue(segunda.aceita());
+        controle.libera(segunda);
+        assertEquals(TAXA, controle.admite("chave").motivo());
+    }
+
+    @Test
+    void loteEFluxoUsamLimiteProprio() {
+        var controle = controle(1e9, Integer.MAX_VALUE);
+
+        var lote = controle.admite("chave", LOTE_FLUXO);
+        assertTrue(lote.aceita());
+        assertEquals(CONCORRENCIA, controle.admite("chave", LOTE_FLUXO).motivo());
+
+        var simulacao = controle.admite("chave", SIMULACAO);
+        assertTrue(simulacao.aceita());
+        assertEquals(CONCORRENCIA, controle.admite("chave", SIMULACAO).motivo());
+
+        var status = controle.status();
+        assertEquals(1, status.getSimulacao().getEmAndamento());
+        assertEquals(1, status.getLoteFluxo().getEmAndamento());
+        assertEquals(1.0, registry.get("simulacao.admissao.em.andamento").tag("classe", LOTE_FLUXO.name()).gauge().value());
+
+        controle.libera(lote);
+        assertEquals(0, controle.status().getLoteFluxo().getEmAndamento());
+        assertEquals(1, controle.status().getSimulacao().getEmAndamento());
+        controle.libera(simulacao);
+        assertEquals(0, controle.status().getSimulacao().getEmAndamento());
+    }
+
+    private ControleAdmissao controle(double taxaPorChave, int rajadaPorChave) {
+        return new ControleAdmissao(new MetricasSimulacao(registry), taxaPorChave, rajadaPorChave, Duration.ofMinutes(10),
+                1, 1, 1, 1.5, 0.2, Duration.ofMillis(100), 0, Duration.ZERO, 1, 1, 1, 0);
+    }
+}
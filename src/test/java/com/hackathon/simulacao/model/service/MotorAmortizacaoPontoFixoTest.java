@@ -0,0 +1,72 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoParcela;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.PRICE;
+import static com.hackathon.simulacao.enumerable.TipoTabelaCorrecaoMonetaria.SAC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MotorAmortizacaoPontoFixoTest {
+    private final MotorAmortizacaoBigDecimal referencia = new MotorAmortizacaoBigDecimal();
+    private final MotorAmortizacaoPontoFixo pontoFixo = new MotorAmortizacaoPontoFixo();
+
+    static Stream<Arguments> casos() {
+        return ProdutosExemplo.produtos().stream()
+                .flatMap(produto -> ProdutosExemplo.valores(produto).stream()
+                        .flatMap(valor -> Stream.of(SAC, PRICE).map(tipo -> Arguments.of(tipo, produto.getNome(), produto, valor))));
+    }
+
+    @ParameterizedTest(name = "{0} {1} valor {3}")
+    @MethodSource("casos")
+    void reproduzOMotorBigDecimalEmTodosOsPrazosDoProduto(TipoTabelaCorrecaoMonetaria tipo, String nome, Produto produto, BigDecimal valor) {
+        for (int prazo = produto.getMinMeses(); prazo <= ProdutosExemplo.prazoMaximo(produto); prazo++) {
+            var request = new SimulacaoRequest(valor, prazo);
+
+            var esperado = tipo == SAC ? referencia.calculaSAC(produto, request) : referencia.calculaPRICE(produto, request);
+            var obtido = tipo == SAC ? pontoFixo.calculaSAC(produto, request) : pontoFixo.calculaPRICE(produto, request);
+            assertEquals(esperado, obtido, "prazo " + prazo);
+
+            var parcelasEsperadas = new ArrayList<SimulacaoParcela>();
+            var parcelasObtidas = new ArrayList<SimulacaoParcela>();
+            var totalEsperado = referencia.percorre(tipo, produto, request, parcelasEsperadas::add);
+            var totalObtido = pontoFixo.percorre(tipo, produto, request, parcelasObtidas::add);
+            assertEquals(totalEsperado, totalObtido, "total percorrido no prazo " + prazo);
+            assertEquals(parcelasEsperadas, parcelasObtidas, "parcelas percorridas no prazo " + prazo);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} valor {1} prazo {2}")
+    @CsvSource({
+            "SAC, 1000000000.00, 600", "PRICE, 1000000000.00, 600",
+            "SAC, 5000000000.00, 360", "PRICE, 5000000000.00, 360",
+            "SAC, 5100000000.00, 1", "PRICE, 5100000000.00, 1",
+            "SAC, 90000000000.00, 120", "PRICE, 90000000000.00, 120",
+            "SAC, 1000000000000000.00, 600", "PRICE, 1000000000000000.00, 600"
+    })
+    void reproduzOMotorBigDecimalPertoDoLimiteDoLong(TipoTabelaCorrecaoMonetaria tipo, BigDecimal valor, int prazo) {
+        var produto = ProdutosExemplo.produtos().get(3);
+        var request = new SimulacaoRequest(valor, prazo);
+
+        var esperado = tipo == SAC ? referencia.calculaSAC(produto, request) : referencia.calculaPRICE(produto, request);
+        var obtido = tipo == SAC ? pontoFixo.calculaSAC(produto, request) : pontoFixo.calculaPRICE(produto, request);
+        assertEquals(esperado, obtido);
+
+        var parcelasEsperadas = new ArrayList<SimulacaoParcela>();
+        var parcelasObtidas = new ArrayList<SimulacaoParcela>();
+        assertEquals(referencia.percorre(tipo, produto, request, parcelasEsperadas::add),
+                pontoFixo.percorre(tipo, produto, request, parcelasObtidas::add));
+        assertEquals(parcelasEsperadas, parcelasObtidas);
+    }
+}
@@ -0,0 +1,60 @@
+package com.hackathon.simulacao.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.mensageria.CodificadorBinario;
+import com.hackathon.simulacao.mensageria.CodificadorEventos;
+import com.hackathon.simulacao.mensageria.CodificadorJson;
+import com.hackathon.simulacao.mensageria.CodificadorResumo;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static com.hackathon.simulacao.enumerable.FormatoEvento.JSON;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SimulacaoFluxoTest {
+    private final Produto produto = ProdutosExemplo.produtos().get(0);
+    private final MotorAmortizacaoBigDecimal motor = new MotorAmortizacaoBigDecimal();
+    private final PublicadorEventos publicador = mock(PublicadorEventos.class);
+
+    static Stream<Arguments> casos() {
+        return Stream.of(new CodificadorJson(new ObjectMapper()), new CodificadorBinario(), new CodificadorResumo())
+                .flatMap(codificador -> Stream.of(0, 1, 24).map(prazo -> Arguments.of(codificador.formato(), codificador, prazo)));
+    }
+
+    @ParameterizedTest(name = "{0} prazo {2}")
+    @MethodSource("casos")
+    void publicaOMesmoEventoDoCalculoCompleto(FormatoEvento formato, CodificadorEventos codificador, int prazo) throws IOException {
+        var request = new SimulacaoRequest(new BigDecimal("5000.00"), prazo);
+        var saida = new ByteArrayOutputStream();
+
+        new SimulacaoFluxo(produto, request, motor, publicador, codificador).writeTo(saida);
+
+        var evento = ArgumentCaptor.forClass(byte[].class);
+        verify(publicador).publica(evento.capture());
+        var esperado = SimulacaoService.montaResposta(produto, motor.calculaSAC(produto, request), motor.calculaPRICE(produto, request));
+        if (codificador.formato() == JSON)
+            assertEquals(esperado, new ObjectMapper().readValue(evento.getValue(), SimulacaoResponse.class));
+        else
+            assertArrayEquals(codificador.codifica(request, esperado), evento.getValue());
+
+        var linhas = saida.toString(UTF_8).lines().toList();
+        assertEquals(1 + 2 * Math.max(prazo, 1) + 2, linhas.size());
+    }
+}
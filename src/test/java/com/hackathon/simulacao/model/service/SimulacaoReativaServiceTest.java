@@ -0,0 +1,105 @@
+package com.hackathon.simulacao.model.service;
+
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.exception.SobrecargaException;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class SimulacaoReativaServiceTest {
+    private static final Duration ESPERA = Duration.ofSeconds(5);
+
+    private final Produto produto = ProdutosExemplo.produtos().get(0);
+    private final MotorAmortizacaoBigDecimal motor = new MotorAmortizacaoBigDecimal();
+    private final SimulacaoService simulacaoService = mock(SimulacaoService.class);
+    private final CountDownLatch liberaCalculo = new CountDownLatch(1);
+    private final CountDownLatch calculoIniciado = new CountDownLatch(1);
+    private final AtomicInteger calculos = new AtomicInteger();
+
+    private SimulacaoReativaService reativa;
+
+    @BeforeEach
+    void prepara() {
+        var metricas = new MetricasSimulacao(new SimpleMeterRegistry());
+        reativa = new SimulacaoReativaService(simulacaoService, mock(CatalogoProdutoService.class),
+                new SimulacaoCache(false, 0, Duration.ZERO), new CoalescedorSimulacao(true, metricas), metricas);
+        setField(reativa, "concorrenciaMaxima", 2);
+
+        when(simulacaoService.resolveProduto(any(), any())).thenReturn(produto);
+        when(simulacaoService.calculaSAC(any(), any())).thenAnswer(invocacao -> {
+            calculos.incrementAndGet();
+            calculoIniciado.countDown();
+            assertTrue(liberaCalculo.await(5, SECONDS));
+            return motor.calculaSAC(produto, invocacao.getArgument(1));
+        });
+        when(simulacaoService.calculaPRICE(any(), any())).thenAnswer(invocacao -> motor.calculaPRICE(produto, invocacao.getArgument(1)));
+    }
+
+    @Test
+    void recusaComSobrecargaAcimaDaConcorrenciaMaxima() throws InterruptedException {
+        var primeira = reativa.simula(request(1000)).toFuture();
+        var segunda = reativa.simula(request(2000)).toFuture();
+        assertTrue(calculoIniciado.await(5, SECONDS));
+
+        var erro = assertThrows(SobrecargaException.class, () -> reativa.simula(request(3000)).block(ESPERA));
+        assertEquals(1, erro.getRetryAfterSegundos());
+
+        liberaCalculo.countDown();
+        assertEquals(esperado(1000), primeira.join());
+        assertEquals(esperado(2000), segunda.join());
+        aguardaSemSimulacoesEmAndamento();
+
+        assertEquals(esperado(3000), reativa.simula(request(3000)).block(ESPERA));
+    }
+
+    @Test
+    void calculaUmaUnicaVezSimulacoesIdenticasSimultaneas() throws InterruptedException {
+        setField(reativa, "concorrenciaMaxima", 16);
+        var respostas = new ArrayList<CompletableFuture<SimulacaoResponse>>();
+        for (int i = 0; i < 8; i++)
+            respostas.add(reativa.simula(request(1000)).toFuture());
+        assertTrue(calculoIniciado.await(5, SECONDS));
+
+        liberaCalculo.countDown();
+        var primeira = respostas.get(0).join();
+        respostas.forEach(resposta -> assertSame(primeira, resposta.join()));
+        assertEquals(1, calculos.get());
+        aguardaSemSimulacoesEmAndamento();
+    }
+
+    private void aguardaSemSimulacoesEmAndamento() throws InterruptedException {
+        var limite = System.nanoTime() + ESPERA.toNanos();
+        while (reativa.getEmAndamento() > 0 && System.nanoTime() < limite)
+            Thread.sleep(1);
+        assertEquals(0, reativa.getEmAndamento());
+    }
+
+    private SimulacaoResponse esperado(int valor) {
+        return SimulacaoService.montaResposta(produto, motor.calculaSAC(produto, request(valor)), motor.calculaPRICE(produto, request(valor)));
+    }
+
+    private SimulacaoRequest request(int valor) {
+        return new SimulacaoRequest(new BigDecimal(valor), produto.getMinMeses() + 1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.hackathon.simulacao.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.enumerable.FormatoEvento;
+import com.hackathon.simulacao.mensageria.CodificadorBinario;
+import com.hackathon.simulacao.mensageria.CodificadorEventos;
+import com.hackathon.simulacao.mensageria.CodificadorJson;
+import com.hackathon.simulacao.mensageria.CodificadorResumo;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.model.dto.SimulacaoResponse;
+import com.hackathon.simulacao.repository.ProdutoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.hackathon.simulacao.enumerable.FormatoEvento.JSON;
+import static com.hackathon.simulacao.enumerable.ModoCatalogo.MEMORIA;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class SimulacaoServiceTest {
+    private final MotorAmortizacaoBigDecimal motor = new MotorAmortizacaoBigDecimal();
+    private final PublicadorEventos publicador = mock(PublicadorEventos.class);
+    private final ExecutorService executorLote = mock(ExecutorService.class);
+
+    static Stream<Arguments> casos() {
+        return Stream.of(new CodificadorJson(new ObjectMapper()), new CodificadorBinario(), new CodificadorResumo())
+                .flatMap(codificador -> Stream.of(1, 24).map(prazo -> Arguments.of(codificador.formato(), codificador, prazo)));
+    }
+
+    @ParameterizedTest(name = "{0} prazo {2}")
+    @MethodSource("casos")
+    void resumoPublicaEmSegundoPlanoOMesmoEventoDoCalculoCompleto(FormatoEvento formato, CodificadorEventos codificador, int prazo)
+            throws IOException {
+        verificaEventoPublicado(codificador, prazo, (service, request) -> service.simulaResumo(request));
+    }
+
+    @ParameterizedTest(name = "{0} prazo {2}")
+    @MethodSource("casos")
+    void paginaPublicaEmSegundoPlanoOMesmoEventoDoCalculoCompleto(FormatoEvento formato, CodificadorEventos codificador, int prazo)
+            throws IOException {
+        verificaEventoPublicado(codificador, prazo, (service, request) -> service.simulaPagina(request, 0, 1));
+    }
+
+    private void verificaEventoPublicado(CodificadorEventos codificador, int prazo,
+                                         BiConsumer<SimulacaoService, SimulacaoRequest> chamada) throws IOException {
+        var catalogo = catalogo();
+        var service = service(catalogo, codificador);
+        var request = new SimulacaoRequest(new BigDecimal("5000.00"), prazo);
+
+        chamada.accept(service, request);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<byte[]>> evento = ArgumentCaptor.forClass(Supplier.class);
+        verify(publicador).publicaEmSegundoPlano(evento.capture());
+        verifyNoInteractions(executorLote);
+
+        var produto = catalogo.fotografia().getProdutos().get(0);
+        var esperado = SimulacaoService.montaResposta(produto, motor.calculaSAC(produto, request), motor.calculaPRICE(produto, request));
+        var publicado = evento.getValue().get();
+        if (codificador.formato() == JSON)
+            assertEquals(esperado, new ObjectMapper().readValue(publicado, SimulacaoResponse.class));
+        else
+            assertArrayEquals(codificador.codifica(request, esperado), publicado);
+    }
+
+    private CatalogoProdutoService catalogo() {
+        var repository = mock(ProdutoRepository.class);
+        when(repository.findAll()).thenAnswer(invocacao -> ProdutosExemplo.produtos());
+        var catalogo = new CatalogoProdutoService(repository, mock(ApplicationEventPublisher.class));
+        setField(catalogo, "modo", MEMORIA);
+        setField(catalogo, "prazoMaximoFatoresPrice", ProdutosExemplo.PRAZO_MAXIMO);
+        catalogo.inicializa();
+        return catalogo;
+    }
+
+    private SimulacaoService service(CatalogoProdutoService catalogo, CodificadorEventos codificador) {
+        var metricas = new MetricasSimulacao(new SimpleMeterRegistry());
+        var service = new SimulacaoService(catalogo, publicador, new SimulacaoCache(false, 0, Duration.ZERO), motor, executorLote,
+                Validation.buildDefaultValidatorFactory().getValidator(), new CalculoParcialService(), metricas, codificador,
+                new CoalescedorSimulacao(false, metricas), new ObjectMapper());
+        setField(service, "limiteMaximoPagina", 120);
+        return service;
+    }
+}
@@ -0,0 +1,191 @@
+package com.hackathon.simulacao.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.simulacao.ProdutosExemplo;
+import com.hackathon.simulacao.enumerable.ModoCatalogo;
+import com.hackathon.simulacao.mensageria.CanalCatalogoLocal;
+import com.hackathon.simulacao.mensageria.CodificadorEventos;
+import com.hackathon.simulacao.mensageria.PublicadorEventos;
+import com.hackathon.simulacao.metrica.MetricasSimulacao;
+import com.hackathon.simulacao.model.CatalogoProduto;
+import com.hackathon.simulacao.model.Produto;
+import com.hackathon.simulacao.model.dto.AssinaturaCatalogo;
+import com.hackathon.simulacao.model.dto.SimulacaoRequest;
+import com.hackathon.simulacao.repository.ProdutoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import static com.hackathon.simulacao.enumerable.ModoCatalogo.BANCO;
+import static com.hackathon.simulacao.enumerable.ModoCatalogo.MEMORIA;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class SincronizacaoCatalogoTest {
+    private static final Duration ATRASO_ATIVACAO = Duration.ofMillis(200);
+    private static final SimulacaoRequest REQUEST = new SimulacaoRequest(new BigDecimal("5000.00"), 12);
+
+    private final List<Produto> banco = new CopyOnWriteArrayList<>(ProdutosExemplo.produtos());
+    private final ProdutoRepository repository = mock(ProdutoRepository.class);
+    private final CanalCatalogoLocal canal = new CanalCatalogoLocal();
+    private final ExecutorService executorLote = Executors.newSingleThreadExecutor();
+    private final List<SincronizacaoCatalogo> sincronizacoes = new ArrayList<>();
+    private volatile boolean falhaNaProximaLeitura;
+
+    @BeforeEach
+    void prepara() {
+        when(repository.findAll()).thenAnswer(invocacao -> {
+            if (falhaNaProximaLeitura) {
+                falhaNaProximaLeitura = false;
+                throw new IllegalStateException("banco indisponível");
+            }
+            return banco.stream().map(SincronizacaoCatalogoTest::copia).toList();
+        });
+        when(repository.buscaAssinatura()).thenAnswer(invocacao -> assinatura());
+    }
+
+    @AfterEach
+    void encerra() throws InterruptedException {
+        sincronizacoes.forEach(SincronizacaoCatalogo::encerra);
+        executorLote.shutdownNow();
+        assertTrue(executorLote.awaitTermination(5, SECONDS));
+    }
+
+    @Test
+    void aMudancaDetectadaPorUmaInstanciaChegaAOutraEAsRespostasSaemComANovaVersao() throws InterruptedException {
+        var catalogoA = catalogo(MEMORIA);
+        var catalogoB = catalogo(MEMORIA);
+        var sincronizacaoA = sincronizacao(catalogoA);
+        sincronizacao(catalogoB);
+        var simulacaoB = simulacao(catalogoB);
+        var versaoAnterior = catalogoA.impressaoDigital();
+        assertEquals(versaoAnterior, catalogoB.impressaoDigital());
+        assertEquals(versaoAnterior, simulacaoB.simula(REQUEST).getVersaoCatalogo());
+
+        alteraTaxa(1L, "0.021000000");
+        var versaoNova = CatalogoProduto.impressaoDigital(banco);
+        sincronizacaoA.verificaAssinatura();
+
+        aguarda(() -> versaoNova.equals(catalogoA.impressaoDigital()) && versaoNova.equals(catalogoB.impressaoDigital()),
+                "versões ativas: " + catalogoA.impressaoDigital() + " e " + catalogoB.impressaoDigital());
+        var resposta = simulacaoB.simula(REQUEST);
+        assertEquals(versaoNova, resposta.getVersaoCatalogo());
+        assertEquals(new BigDecimal("0.021000000"), resposta.getTaxaJuros());
+    }
+
+    @Test
+    void verificaNovamenteAAssinaturaQuandoALeituraDoCatalogoFalha() throws InterruptedException {
+        var catalogoA = catalogo(MEMORIA);
+        var catalogoB = catalogo(MEMORIA);
+        var sincronizacaoA = sincronizacao(catalogoA);
+        sincronizacao(catalogoB);
+        var versaoAnterior = catalogoA.impressaoDigital();
+
+        alteraTaxa(2L, "0.019000000");
+        falhaNaProximaLeitura = true;
+        sincronizacaoA.verificaAssinatura();
+        Thread.sleep(2 * ATRASO_ATIVACAO.toMillis());
+        assertEquals(versaoAnterior, catalogoA.impressaoDigital());
+        assertEquals(versaoAnterior, catalogoB.impressaoDigital());
+
+        sincronizacaoA.verificaAssinatura();
+        var versaoNova = CatalogoProduto.impressaoDigital(banco);
+        aguarda(() -> versaoNova.equals(catalogoA.impressaoDigital()) && versaoNova.equals(catalogoB.impressaoDigital()),
+                "versões ativas: " + catalogoA.impressaoDigital() + " e " + catalogoB.impressaoDigital());
+    }
+
+    @Test
+    void noModoBancoNaoCarimbaAVersaoDoCatalogo() {
+        var catalogo = catalogo(BANCO);
+
+        assertNull(catalogo.impressaoDigital());
+        assertFalse(catalogo.fotografia().getProdutos().isEmpty());
+        catalogo.fotografia().getProdutos().forEach(produto -> assertNull(produto.getVersaoCatalogo()));
+    }
+
+    private CatalogoProdutoService catalogo(ModoCatalogo modo) {
+        var catalogo = new CatalogoProdutoService(repository, mock(ApplicationEventPublisher.class));
+        setField(catalogo, "modo", modo);
+        setField(catalogo, "prazoMaximoFatoresPrice", ProdutosExemplo.PRAZO_MAXIMO);
+        setField(catalogo, "sincronizacaoHabilitada", true);
+        catalogo.inicializa();
+        return catalogo;
+    }
+
+    private SincronizacaoCatalogo sincronizacao(CatalogoProdutoService catalogo) {
+        var sincronizacao = new SincronizacaoCatalogo(catalogo, repository, canal);
+        setField(sincronizacao, "atrasoAtivacao", ATRASO_ATIVACAO);
+        sincronizacao.inicia();
+        sincronizacoes.add(sincronizacao);
+        return sincronizacao;
+    }
+
+    private SimulacaoService simulacao(CatalogoProdutoService catalogo) {
+        var metricas = new MetricasSimulacao(new SimpleMeterRegistry());
+        return new SimulacaoService(catalogo, mock(PublicadorEventos.class), new SimulacaoCache(false, 0, Duration.ZERO),
+                new MotorAmortizacaoBigDecimal(), executorLote, Validation.buildDefaultValidatorFactory().getValidator(),
+                new CalculoParcialService(), metricas, mock(CodificadorEventos.class), new CoalescedorSimulacao(false, metricas), new ObjectMapper());
+    }
+
+    private void alteraTaxa(Long codigo, String taxa) {
+        banco.replaceAll(produto -> produto.getCodigo().equals(codigo)
+                ? ProdutosExemplo.produto(codigo, produto.getNome(), taxa, produto.getMinMeses(), produto.getMaxMeses(),
+                produto.getMinValor().toPlainString(), produto.getMaxValor() == null ? null : produto.getMaxValor().toPlainString())
+                : produto);
+    }
+
+    private AssinaturaCatalogo assinatura() {
+        var codigos = banco.stream().map(produto -> BigDecimal.valueOf(produto.getCodigo())).toList();
+        var taxas = BigDecimal.ZERO;
+        var minimos = BigDecimal.ZERO;
+        var maximos = BigDecimal.ZERO;
+        long prazosMinimos = 0;
+        long prazosMaximos = 0;
+        for (int i = 0; i < banco.size(); i++) {
+            var produto = banco.get(i);
+            taxas = taxas.add(codigos.get(i).multiply(produto.getTaxaJuros()));
+            minimos = minimos.add(codigos.get(i).multiply(produto.getMinValor()));
+            maximos = maximos.add(produto.getMaxValor() == null ? BigDecimal.ZERO : codigos.get(i).multiply(produto.getMaxValor()));
+            prazosMinimos += produto.getCodigo() * produto.getMinMeses();
+            prazosMaximos += produto.getMaxMeses() == null ? 0 : produto.getCodigo() * produto.getMaxMeses();
+        }
+        return new AssinaturaCatalogo((long) banco.size(), taxas, prazosMinimos, prazosMaximos, minimos, maximos);
+    }
+
+    private static Produto copia(Produto produto) {
+        var copia = new Produto();
+        copia.setCodigo(produto.getCodigo());
+        copia.setNome(produto.getNome());
+        copia.setTaxaJuros(produto.getTaxaJuros());
+        copia.setMinMeses(produto.getMinMeses());
+        copia.setMaxMeses(produto.getMaxMeses());
+        copia.setMinValor(produto.getMinValor());
+        copia.setMaxValor(produto.getMaxValor());
+        return copia;
+    }
+
+    private static void aguarda(BooleanSupplier condicao, String mensagem) throws InterruptedException {
+        var limite = System.nanoTime() + SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite)
+            Thread.sleep(5);
+        assertTrue(condicao.getAsBoolean(), mensagem);
+    }
+}
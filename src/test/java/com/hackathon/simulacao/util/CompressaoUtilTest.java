@@ -0,0 +1,32 @@
+package com.hackathon.simulacao.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompressaoUtilTest {
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(delimiter = '|', nullValues = "NULO", value = {
+            "NULO | false",
+            "'' | false",
+            "identity | false",
+            "gzip | true",
+            "GZIP | true",
+            "deflate, gzip | true",
+            "* | true",
+            "gzip;q=0 | false",
+            "gzip;Q=0 | false",
+            "gzip; q=0.0 | false",
+            "gzip;q=0.5 | true",
+            "gzip;q=1 | true",
+            "gzip;q= | true",
+            "gzip;q=x | true",
+            "gzip;q=0,5 | false",
+            "br;q=1, gzip;q= | true",
+            "gzip;level=9 | true"
+    })
+    void interpretaAcceptEncoding(String acceptEncoding, boolean aceita) {
+        assertEquals(aceita, CompressaoUtil.aceitaGzip(acceptEncoding));
+    }
+}